@@ -7,7 +7,11 @@ import com.a2.backend.entity.*;
 import com.a2.backend.repository.*;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +36,7 @@ public class DemoRunner implements CommandLineRunner {
     @Autowired private ForumTagRepository forumTagRepository;
     @Autowired private PasswordEncoder passwordEncoder;
     @Autowired private NotificationRepository notificationRepository;
+    @Autowired private ReputationScoreRepository reputationScoreRepository;
 
     public DemoRunner() {}
 
@@ -52,6 +57,7 @@ public class DemoRunner implements CommandLineRunner {
         loadUsers();
         loadForumTags();
         loadProjects();
+        loadReputationScores();
         loadNotifications();
         logger.info("Created demo data");
     }
@@ -79,7 +85,6 @@ public class DemoRunner implements CommandLineRunner {
                         .email("agustin.ayerza@ing.austral.edu.ar")
                         .password(passwordEncoder.encode("password"))
                         .preferredTags(List.of("GNU", "MATLAB"))
-                        .reputation(4)
                         .confirmationToken("token001")
                         .collaboratedProjectsPrivacy(PrivacyConstant.PRIVATE)
                         .languagesPrivacy(PrivacyConstant.PRIVATE)
@@ -92,7 +97,6 @@ public class DemoRunner implements CommandLineRunner {
                         .biography(
                                 "Backend software engineer, passionate about design and clean code. Working with Java, Python and Scala. ")
                         .password(passwordEncoder.encode("password"))
-                        .reputation(2.5)
                         .confirmationToken("token002")
                         .isActive(true)
                         .build();
@@ -475,6 +479,36 @@ public class DemoRunner implements CommandLineRunner {
         projectRepository.save(flask);
     }
 
+    /** Derives the reputation of every collaborator from the latest review on each project. */
+    private void loadReputationScores() {
+        for (Project project : projectRepository.findAll()) {
+            Map<UUID, Review> latestReviews =
+                    project.getReviews().stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            review -> review.getCollaborator().getId(),
+                                            review -> review,
+                                            BinaryOperator.maxBy(
+                                                    Comparator.comparing(Review::getDate))));
+            for (Review review : latestReviews.values()) {
+                User collaborator = review.getCollaborator();
+                reputationScoreRepository.save(
+                        ReputationScore.builder()
+                                .collaborator(collaborator)
+                                .project(project)
+                                .score(review.getScore())
+                                .date(review.getDate())
+                                .build());
+                collaborator.setReputationScoreSum(
+                        collaborator.getReputationScoreSum() + review.getScore());
+                collaborator.setReputationScoreCount(collaborator.getReputationScoreCount() + 1);
+                collaborator.setReputation(
+                        (double) collaborator.getReputationScoreSum()
+                                / collaborator.getReputationScoreCount());
+            }
+        }
+    }
+
     private void loadTags() {
         Tag tool = Tag.builder().name("Tool").build();
         Tag linux = Tag.builder().name("linux").build();
@@ -0,0 +1,106 @@
+package com.a2.backend;
+
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.ReputationScore;
+import com.a2.backend.entity.Review;
+import com.a2.backend.entity.User;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.repository.ReputationScoreRepository;
+import com.a2.backend.repository.ReviewRepository;
+import com.a2.backend.repository.UserRepository;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the reputation scores of databases that had reviews before reputation was kept as a running
+ * average. Without it the first review after the upgrade would become the whole reputation of its
+ * collaborator. Runs once on startup, before requests are served: once scores exist it does
+ * nothing.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class ReputationScoreBackfill implements InitializingBean {
+
+    private final ProjectRepository projectRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReputationScoreRepository reputationScoreRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReputationScoreBackfill(
+            ProjectRepository projectRepository,
+            ReviewRepository reviewRepository,
+            ReputationScoreRepository reputationScoreRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.reviewRepository = reviewRepository;
+        this.reputationScoreRepository = reputationScoreRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        backfill();
+    }
+
+    public void backfill() {
+        if (reputationScoreRepository.count() > 0 || reviewRepository.count() == 0) {
+            return;
+        }
+        int collaborators = transactionTemplate.execute(status -> fillScores());
+        log.info("Backfilled the reputation of {} collaborators from their reviews", collaborators);
+    }
+
+    /** Keeps the latest review of each collaborator on each project, like new reviews do. */
+    private int fillScores() {
+        Map<UUID, User> collaborators = new HashMap<>();
+        for (Project project : projectRepository.findAll()) {
+            Map<UUID, Review> latestReviews =
+                    project.getReviews().stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            review -> review.getCollaborator().getId(),
+                                            review -> review,
+                                            BinaryOperator.maxBy(
+                                                    Comparator.comparing(Review::getDate))));
+            for (Review review : latestReviews.values()) {
+                User collaborator = review.getCollaborator();
+                if (collaborators.putIfAbsent(collaborator.getId(), collaborator) == null) {
+                    // Whatever the columns held before is replaced by the reviews
+                    collaborator.setReputationScoreSum(0);
+                    collaborator.setReputationScoreCount(0);
+                }
+                reputationScoreRepository.save(
+                        ReputationScore.builder()
+                                .collaborator(collaborator)
+                                .project(project)
+                                .score(review.getScore())
+                                .date(review.getDate())
+                                .build());
+                collaborator.setReputationScoreSum(
+                        collaborator.getReputationScoreSum() + review.getScore());
+                collaborator.setReputationScoreCount(collaborator.getReputationScoreCount() + 1);
+            }
+        }
+        for (User collaborator : collaborators.values()) {
+            collaborator.setReputation(
+                    (double) collaborator.getReputationScoreSum()
+                            / collaborator.getReputationScoreCount());
+        }
+        userRepository.saveAll(collaborators.values());
+        return collaborators.size();
+    }
+}
@@ -0,0 +1,173 @@
+package com.a2.backend;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Gives tag, language and forum tag names their unique constraints on databases created before
+ * names were unique. Hibernate's schema update cannot add a constraint while duplicates exist, so
+ * duplicate rows are first merged into one: the projects and discussions using a duplicate are
+ * moved to the row that is kept. Runs on startup, before requests are served.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class VocabularyNameMigration implements InitializingBean {
+
+    private static final List<Vocabulary> VOCABULARIES =
+            List.of(
+                    new Vocabulary(
+                            "tag",
+                            "uk_tag_name",
+                            new JoinTable("project_tags", "project_id", "tags_id")),
+                    new Vocabulary(
+                            "language",
+                            "uk_language_name",
+                            new JoinTable("project_languages", "project_id", "languages_id")),
+                    new Vocabulary(
+                            "forum_tag",
+                            "uk_forum_tag_name",
+                            new JoinTable("project_forum_tags", "project_id", "forum_tags_id"),
+                            new JoinTable(
+                                    "discussion_forum_tags", "discussion_id", "forum_tags_id")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public VocabularyNameMigration(
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        for (Vocabulary vocabulary : VOCABULARIES) {
+            if (hasUniqueName(vocabulary.table)) {
+                continue;
+            }
+            int merged = transactionTemplate.execute(status -> mergeDuplicates(vocabulary));
+            jdbcTemplate.execute(
+                    String.format(
+                            "ALTER TABLE %s ADD CONSTRAINT %s UNIQUE (name)",
+                            vocabulary.table, vocabulary.constraint));
+            log.info(
+                    "Merged {} duplicate {} rows and added {}",
+                    merged,
+                    vocabulary.table,
+                    vocabulary.constraint);
+        }
+    }
+
+    /** Moves the usages of every duplicate to the first row with its name and deletes it. */
+    private int mergeDuplicates(Vocabulary vocabulary) {
+        List<Map<String, Object>> rows =
+                jdbcTemplate.queryForList(
+                        String.format(
+                                "SELECT id, name FROM %1$s WHERE name IN"
+                                        + " (SELECT name FROM %1$s GROUP BY name HAVING COUNT(*) > 1)"
+                                        + " ORDER BY name, id",
+                                vocabulary.table));
+        // Ids are passed back as read, since their column type depends on the database
+        Map<String, Object> keptIds = new HashMap<>();
+        int merged = 0;
+        for (Map<String, Object> row : rows) {
+            Object id = row.get("id");
+            Object keptId = keptIds.putIfAbsent((String) row.get("name"), id);
+            if (keptId == null) {
+                continue;
+            }
+            for (JoinTable joinTable : vocabulary.joinTables) {
+                // Owners already using the kept row only lose the duplicate link
+                jdbcTemplate.update(
+                        String.format(
+                                "DELETE FROM %1$s WHERE %3$s = ? AND %2$s IN"
+                                        + " (SELECT %2$s FROM %1$s WHERE %3$s = ?)",
+                                joinTable.name, joinTable.ownerColumn, joinTable.vocabularyColumn),
+                        id,
+                        keptId);
+                jdbcTemplate.update(
+                        String.format(
+                                "UPDATE %s SET %2$s = ? WHERE %2$s = ?",
+                                joinTable.name, joinTable.vocabularyColumn),
+                        keptId,
+                        id);
+            }
+            jdbcTemplate.update(String.format("DELETE FROM %s WHERE id = ?", vocabulary.table), id);
+            merged++;
+        }
+        return merged;
+    }
+
+    private boolean hasUniqueName(String table) {
+        return jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>)
+                        connection -> {
+                            DatabaseMetaData metaData = connection.getMetaData();
+                            String tableName =
+                                    metaData.storesUpperCaseIdentifiers()
+                                            ? table.toUpperCase(Locale.ROOT)
+                                            : table;
+                            return hasUniqueNameIndex(
+                                    metaData.getIndexInfo(null, null, tableName, true, false));
+                        });
+    }
+
+    private static boolean hasUniqueNameIndex(ResultSet indexes) throws SQLException {
+        Map<String, List<String>> columnsByIndex = new HashMap<>();
+        try (indexes) {
+            while (indexes.next()) {
+                String column = indexes.getString("COLUMN_NAME");
+                if (column != null) {
+                    columnsByIndex
+                            .computeIfAbsent(
+                                    indexes.getString("INDEX_NAME"), key -> new ArrayList<>())
+                            .add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columnsByIndex.containsValue(List.of("name"));
+    }
+
+    private static final class Vocabulary {
+        private final String table;
+        private final String constraint;
+        private final List<JoinTable> joinTables;
+
+        private Vocabulary(String table, String constraint, JoinTable... joinTables) {
+            this.table = table;
+            this.constraint = constraint;
+            this.joinTables = List.of(joinTables);
+        }
+    }
+
+    private static final class JoinTable {
+        private final String name;
+        private final String ownerColumn;
+        private final String vocabularyColumn;
+
+        private JoinTable(String name, String ownerColumn, String vocabularyColumn) {
+            this.name = name;
+            this.ownerColumn = ownerColumn;
+            this.vocabularyColumn = vocabularyColumn;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.a2.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class MailOutboxConfig {
+
+    /**
+     * Workers that deliver outbox mails. The queue is bounded: when it is full the dispatcher
+     * leaves the remaining mails in the outbox for its next run.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailOutboxExecutor(
+            @Value("${mail.outbox.workers:2}") int workers,
+            @Value("${mail.outbox.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
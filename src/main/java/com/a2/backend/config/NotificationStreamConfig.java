@@ -0,0 +1,23 @@
+package com.a2.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class NotificationStreamConfig {
+
+    /** Workers that write pending events to the connected notification streams. */
+    @Bean
+    public ThreadPoolTaskExecutor notificationStreamExecutor(
+            @Value("${notification.stream.workers:4}") int workers,
+            @Value("${notification.stream.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-stream-");
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.a2.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class VocabularyCleanupConfig {
+
+    /**
+     * Worker that deletes released vocabulary off the request thread. The queue is bounded: when it
+     * is full the release is left to the next sweep.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor vocabularyCleanupExecutor(
+            @Value("${vocabulary.cleanup.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("vocabulary-cleanup-");
+        return executor;
+    }
+}
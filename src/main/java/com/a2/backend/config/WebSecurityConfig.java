@@ -2,6 +2,7 @@ package com.a2.backend.config;
 
 import com.a2.backend.security.AuthenticationFilter;
 import com.a2.backend.security.AuthorizationFilter;
+import com.a2.backend.security.TokenCodec;
 import com.a2.backend.service.impl.ApplicationUserDetailsService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,9 +20,12 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final ApplicationUserDetailsService applicationUserDetailsService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final TokenCodec tokenCodec;
 
-    public WebSecurityConfig(ApplicationUserDetailsService userDetailsService) {
+    public WebSecurityConfig(
+            ApplicationUserDetailsService userDetailsService, TokenCodec tokenCodec) {
         this.applicationUserDetailsService = userDetailsService;
+        this.tokenCodec = tokenCodec;
         this.bCryptPasswordEncoder = new BCryptPasswordEncoder();
     }
 
@@ -40,8 +44,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .anyRequest()
                 .authenticated()
                 .and()
-                .addFilter(new AuthenticationFilter(authenticationManager()))
-                .addFilter(new AuthorizationFilter(authenticationManager()))
+                .addFilter(new AuthenticationFilter(authenticationManager(), tokenCodec))
+                .addFilter(new AuthorizationFilter(authenticationManager(), tokenCodec))
                 .logout()
                 .logoutUrl("logout")
                 .and()
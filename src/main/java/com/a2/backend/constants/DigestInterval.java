@@ -0,0 +1,18 @@
+package com.a2.backend.constants;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/** How long notification mails of a user are held so they go out together in one digest. */
+public enum DigestInterval {
+    IMMEDIATE(Duration.ZERO),
+    HOURLY(Duration.ofHours(1)),
+    DAILY(Duration.ofDays(1)),
+    WEEKLY(Duration.ofDays(7));
+
+    @Getter private final Duration window;
+
+    DigestInterval(Duration window) {
+        this.window = window;
+    }
+}
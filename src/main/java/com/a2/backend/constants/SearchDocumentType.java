@@ -0,0 +1,7 @@
+package com.a2.backend.constants;
+
+public enum SearchDocumentType {
+    PROJECT,
+    DISCUSSION,
+    COMMENT
+}
@@ -2,12 +2,17 @@ package com.a2.backend.controller;
 
 import com.a2.backend.constants.SecurityConstants;
 import com.a2.backend.service.NotificationService;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.val;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/notification")
@@ -26,6 +31,37 @@ public class NotificationController {
         return ResponseEntity.status(HttpStatus.OK).body(userNotifications);
     }
 
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping("/inbox")
+    public ResponseEntity<?> getInboxOfLoggedUser(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        val inbox = notificationService.getInboxOfLoggedUser(page, size);
+        return ResponseEntity.status(HttpStatus.OK).body(inbox);
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @PutMapping("/seen")
+    public ResponseEntity<?> markAllNotificationsAsSeen() {
+        val updatedAmount = notificationService.markAllNotificationsAsSeen();
+        return ResponseEntity.status(HttpStatus.OK).body(updatedAmount);
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @PutMapping("/seen/ids")
+    public ResponseEntity<?> markNotificationsAsSeen(@RequestBody List<UUID> ids) {
+        val updatedAmount = notificationService.markNotificationsAsSeen(ids);
+        return ResponseEntity.status(HttpStatus.OK).body(updatedAmount);
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @PutMapping("/seen/until")
+    public ResponseEntity<?> markNotificationsAsSeenUntil(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date) {
+        val updatedAmount = notificationService.markNotificationsAsSeenUntil(date);
+        return ResponseEntity.status(HttpStatus.OK).body(updatedAmount);
+    }
+
     @Secured({SecurityConstants.USER_ROLE})
     @PutMapping("/{id}")
     public ResponseEntity<?> updateNotification(@PathVariable("id") UUID id) {
@@ -39,4 +75,25 @@ public class NotificationController {
         val userNotifications = notificationService.getFirstFiveNotificationsOfLoggedUser();
         return ResponseEntity.status(HttpStatus.OK).body(userNotifications);
     }
+
+    /** Lighter version of /first-five, without the project, discussion and comment graphs. */
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping("/first-five/summary")
+    public ResponseEntity<?> getFirstFiveNotificationSummariesOfLoggedUser() {
+        val userNotifications = notificationService.getFirstFiveNotificationSummariesOfLoggedUser();
+        return ResponseEntity.status(HttpStatus.OK).body(userNotifications);
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotificationsOfLoggedUser() {
+        return notificationService.streamNotificationsOfLoggedUser();
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> countUnseenNotificationsOfLoggedUser() {
+        val unseenAmount = notificationService.countUnseenNotificationsOfLoggedUser();
+        return ResponseEntity.status(HttpStatus.OK).body(unseenAmount);
+    }
 }
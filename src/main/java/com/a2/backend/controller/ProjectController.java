@@ -7,12 +7,17 @@ import com.a2.backend.model.*;
 import com.a2.backend.service.DiscussionService;
 import com.a2.backend.service.ForumTagService;
 import com.a2.backend.service.ProjectService;
+import com.a2.backend.service.SuggestionService;
 import com.a2.backend.service.TagService;
+import com.a2.backend.utils.LanguageCatalog;
+import java.time.Duration;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 import lombok.val;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
@@ -25,16 +30,22 @@ public class ProjectController {
     private final TagService tagService;
     private final ForumTagService forumTagService;
     private final DiscussionService discussionService;
+    private final SuggestionService suggestionService;
+    private final LanguageCatalog languageCatalog;
 
     public ProjectController(
             ForumTagService forumTagService,
             ProjectService projectService,
             TagService tagService,
-            DiscussionService discussionService) {
+            DiscussionService discussionService,
+            SuggestionService suggestionService,
+            LanguageCatalog languageCatalog) {
         this.projectService = projectService;
         this.tagService = tagService;
         this.discussionService = discussionService;
         this.forumTagService = forumTagService;
+        this.suggestionService = suggestionService;
+        this.languageCatalog = languageCatalog;
     }
 
     @Secured({SecurityConstants.USER_ROLE})
@@ -46,16 +57,33 @@ public class ProjectController {
 
     @Secured({SecurityConstants.USER_ROLE})
     @GetMapping
-    public ResponseEntity<?> getAllProjects() {
-        val projects = projectService.getAllProjects();
+    public ResponseEntity<?> getAllProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean summary) {
+        if (cursor == null && size == null) {
+            val projects =
+                    summary
+                            ? projectService.getAllProjectSummaries()
+                            : projectService.getAllProjects();
+            return ResponseEntity.status(HttpStatus.OK).body(projects);
+        }
+        val projects =
+                summary
+                        ? projectService.getProjectSummariesSlice(cursor, size)
+                        : projectService.getProjectsSlice(cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(projects);
     }
 
     @Secured({SecurityConstants.USER_ROLE})
     @PostMapping("/search")
     public ResponseEntity<?> getProjectsByNameSearch(
-            @Valid @RequestBody ProjectSearchDTO projectSearchDTO) {
-        val projects = projectService.searchProjectsByFilter(projectSearchDTO);
+            @Valid @RequestBody ProjectSearchDTO projectSearchDTO,
+            @RequestParam(defaultValue = "false") boolean summary) {
+        val projects =
+                summary
+                        ? projectService.searchProjectSummariesByFilter(projectSearchDTO)
+                        : projectService.searchProjectsByFilter(projectSearchDTO);
         return ResponseEntity.status(HttpStatus.OK).body(projects);
     }
 
@@ -84,8 +112,21 @@ public class ProjectController {
     @Secured({SecurityConstants.USER_ROLE})
     @GetMapping("/languages")
     public ResponseEntity<?> getValidLanguages() {
-        val validLanguages = projectService.getValidLanguageNames();
-        return ResponseEntity.status(HttpStatus.OK).body(validLanguages);
+        // The body never changes while running, so clients revalidate with If-None-Match and get
+        // a 304 back instead of the whole list
+        return ResponseEntity.ok()
+                .eTag(languageCatalog.getETag())
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(languageCatalog.getJsonBody());
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping("/languages/suggest")
+    public ResponseEntity<?> suggestLanguages(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggestLanguages(prefix, limit));
     }
 
     @GetMapping("/tags")
@@ -94,15 +135,30 @@ public class ProjectController {
                 tagService.getAllTags().stream().map(Tag::getName).collect(Collectors.toList()));
     }
 
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping("/tags/suggest")
+    public ResponseEntity<?> suggestTags(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggestTags(prefix, limit));
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<?> getFeaturedProject() {
-        val featuredProjects = projectService.getFeaturedProject();
+    public ResponseEntity<?> getFeaturedProject(
+            @RequestParam(defaultValue = "false") boolean summary) {
+        val featuredProjects =
+                summary
+                        ? projectService.getFeaturedProjectSummaries()
+                        : projectService.getFeaturedProject();
         return ResponseEntity.status(HttpStatus.OK).body(featuredProjects);
     }
 
     @GetMapping("/my-projects")
     @Secured({SecurityConstants.USER_ROLE})
-    public ResponseEntity<?> getMyProjects() {
+    public ResponseEntity<?> getMyProjects(@RequestParam(defaultValue = "false") boolean summary) {
+        if (summary) {
+            return ResponseEntity.ok(projectService.getMyProjectSummaries());
+        }
         return ResponseEntity.ok(projectService.getMyProjects());
     }
 
@@ -121,6 +177,14 @@ public class ProjectController {
                         .collect(Collectors.toList()));
     }
 
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping("/forumtags/suggest")
+    public ResponseEntity<?> suggestForumTags(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggestForumTags(prefix, limit));
+    }
+
     @Secured({SecurityConstants.USER_ROLE})
     @PostMapping("/{id}/discussion")
     public ResponseEntity<?> postNewDiscussion(
@@ -163,8 +227,11 @@ public class ProjectController {
     @Secured({SecurityConstants.USER_ROLE})
     @GetMapping("/reviews/{projectId}/{userId}")
     public ResponseEntity<?> getUserReviewsInProject(
-            @PathVariable UUID projectId, @PathVariable UUID userId) {
-        val reviews = projectService.getUserReviews(projectId, userId);
+            @PathVariable UUID projectId,
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        val reviews = projectService.getUserReviews(projectId, userId, page, size);
         return ResponseEntity.status(HttpStatus.OK).body(reviews);
     }
 }
@@ -0,0 +1,30 @@
+package com.a2.backend.controller;
+
+import com.a2.backend.constants.SecurityConstants;
+import com.a2.backend.service.SearchService;
+import lombok.val;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Secured({SecurityConstants.USER_ROLE})
+    @GetMapping
+    public ResponseEntity<?> search(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        val result = searchService.search(query, page, size);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -100,8 +100,11 @@ public class UserController {
     }
 
     @GetMapping("reviews/{id}")
-    public ResponseEntity<?> getUserReviews(@PathVariable UUID id) {
-        val userReviews = userService.getUserReviews(id);
+    public ResponseEntity<?> getUserReviews(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        val userReviews = userService.getUserReviews(id, page, size);
         return ResponseEntity.status(HttpStatus.OK).body(userReviews);
     }
 
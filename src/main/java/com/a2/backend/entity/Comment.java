@@ -7,6 +7,7 @@ import javax.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Getter
 @Setter
 @ToString
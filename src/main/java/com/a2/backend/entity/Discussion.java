@@ -3,6 +3,7 @@ package com.a2.backend.entity;
 import com.a2.backend.model.DiscussionDTO;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -11,10 +12,18 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import lombok.*;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.Hibernate;
 
+/**
+ * Associations are lazy: reading the comments goes through the entity graph below, which also
+ * fetches the project the comments are checked against. Forum tags are initialized in batches when
+ * touched (see {@code hibernate.default_batch_fetch_size}).
+ */
 @Entity
+@EntityListeners(SearchIndexListener.class)
+@NamedEntityGraph(
+        name = "Discussion.detail",
+        attributeNodes = {@NamedAttributeNode("project"), @NamedAttributeNode("comments")})
 @Getter
 @Setter
 @ToString
@@ -37,23 +46,29 @@ public class Discussion {
     @Size(min = 10, max = 750)
     private String body;
 
-    @ManyToMany(cascade = CascadeType.ALL)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    // Forum tags are shared with other discussions and projects, so removals must not cascade
+    @ManyToMany(
+            cascade = {
+                CascadeType.PERSIST,
+                CascadeType.DETACH,
+                CascadeType.MERGE,
+                CascadeType.REFRESH
+            })
     @NotNull
     @NotEmpty
     @Size(min = 1, max = 5)
+    @ToString.Exclude
     private List<ForumTag> forumTags;
 
-    @ManyToOne
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @ManyToOne(fetch = FetchType.LAZY)
     @NotNull
     @JsonBackReference
     @ToString.Exclude
     private Project project;
 
     @OneToMany(cascade = CascadeType.ALL)
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
+    @ToString.Exclude
     private List<Comment> comments;
 
     @ManyToOne(cascade = {CascadeType.MERGE})
@@ -63,12 +78,13 @@ public class Discussion {
 
     public DiscussionDTO toDTO() {
         return DiscussionDTO.builder()
-                .project(project)
+                // The DTO is serialized as is, so it must not hold an uninitialized proxy
+                .project((Project) Hibernate.unproxy(project))
                 .body(body)
                 .owner(owner)
                 .id(id)
                 .title(title)
-                .forumTags(forumTags)
+                .forumTags(new ArrayList<>(forumTags))
                 .comments(
                         comments.stream()
                                 .filter(Comment::isActive)
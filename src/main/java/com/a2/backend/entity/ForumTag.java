@@ -1,13 +1,21 @@
 package com.a2.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
+@EntityListeners(VocabularyIndexListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_forum_tag_name", columnNames = "name"))
 @Getter
 @Setter
 @ToString
@@ -22,4 +30,8 @@ public class ForumTag {
     private UUID id;
 
     private String name;
+
+    // Lets the cleanup tell rows just inserted, and not linked yet, from unused ones
+    @CreationTimestamp @JsonIgnore @ToString.Exclude @EqualsAndHashCode.Exclude
+    private LocalDateTime createdAt;
 }
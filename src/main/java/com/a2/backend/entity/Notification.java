@@ -9,6 +9,11 @@ import javax.validation.constraints.NotNull;
 import lombok.*;
 
 @Entity
+@Table(
+        indexes = {
+            @Index(name = "idx_notification_inbox", columnList = "user_to_notify_id, seen, date"),
+            @Index(name = "idx_notification_retention", columnList = "seen, date")
+        })
 @Getter
 @Setter
 @ToString
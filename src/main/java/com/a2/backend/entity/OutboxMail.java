@@ -0,0 +1,47 @@
+package com.a2.backend.entity;
+
+import com.a2.backend.constants.NotificationType;
+import com.a2.backend.constants.OutboxMailStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * A notification mail waiting to be delivered. Rows are written in the same transaction as the
+ * notification and picked up later by the outbox dispatcher, so they only keep the recipient
+ * address and project title instead of references to other entities.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_mail_due", columnList = "status, nextAttemptAt"))
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class OutboxMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @NotNull private String recipient;
+
+    @NotNull private NotificationType type;
+
+    private String projectTitle;
+
+    @NotNull @Builder.Default private OutboxMailStatus status = OutboxMailStatus.PENDING;
+
+    @Builder.Default private int attempts = 0;
+
+    @NotNull private LocalDateTime nextAttemptAt;
+
+    @NotNull private LocalDateTime createdAt;
+
+    // Set when a dispatcher worker takes the row, so two workers never deliver the same mail
+    private UUID claim;
+}
@@ -3,6 +3,7 @@ package com.a2.backend.entity;
 import com.a2.backend.model.ProjectDTO;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -11,10 +12,24 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import lombok.*;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 
+/**
+ * Collections are lazy: each use case declares what it needs through one of the entity graphs
+ * below, and whatever else is touched is initialized in batches (see {@code
+ * hibernate.default_batch_fetch_size}). Hibernate cannot join fetch more than one bag per query, so
+ * every graph fetches at most one collection.
+ */
 @Entity
+@EntityListeners(SearchIndexListener.class)
+@NamedEntityGraph(
+        name = "Project.detail",
+        attributeNodes = {@NamedAttributeNode("owner"), @NamedAttributeNode("discussions")})
+@NamedEntityGraph(
+        name = "Project.membership",
+        attributeNodes = {@NamedAttributeNode("owner"), @NamedAttributeNode("collaborators")})
+@NamedEntityGraph(
+        name = "Project.review",
+        attributeNodes = {@NamedAttributeNode("owner"), @NamedAttributeNode("reviews")})
 @Getter
 @Setter
 @ToString
@@ -35,10 +50,10 @@ public class Project implements Serializable {
     private String description;
 
     @ElementCollection
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
     @NotEmpty
     @Size(min = 1, max = 5)
+    @ToString.Exclude
     private List<String> links;
 
     @OneToMany(
@@ -48,8 +63,8 @@ public class Project implements Serializable {
                 CascadeType.MERGE,
                 CascadeType.REFRESH
             })
-    @LazyCollection(LazyCollectionOption.FALSE)
     @JsonManagedReference
+    @ToString.Exclude
     private List<Discussion> discussions;
 
     @ManyToMany(
@@ -59,10 +74,10 @@ public class Project implements Serializable {
                 CascadeType.MERGE,
                 CascadeType.REFRESH
             })
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
     @NotEmpty
     @Size(min = 1, max = 5)
+    @ToString.Exclude
     private List<Tag> tags;
 
     @ManyToMany(
@@ -72,10 +87,10 @@ public class Project implements Serializable {
                 CascadeType.MERGE,
                 CascadeType.REFRESH
             })
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
     @NotEmpty
     @Size(min = 1, max = 5)
+    @ToString.Exclude
     private List<ForumTag> forumTags;
 
     @ManyToMany(
@@ -85,25 +100,25 @@ public class Project implements Serializable {
                 CascadeType.MERGE,
                 CascadeType.REFRESH
             })
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @ToString.Exclude
     private List<Language> languages;
 
     @ManyToOne(cascade = {CascadeType.MERGE})
     private User owner;
 
     @ManyToMany(cascade = CascadeType.MERGE)
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
+    @ToString.Exclude
     private List<User> collaborators;
 
     @ManyToMany(cascade = CascadeType.MERGE)
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
+    @ToString.Exclude
     private List<User> applicants;
 
     @OneToMany(cascade = CascadeType.ALL)
-    @LazyCollection(LazyCollectionOption.FALSE)
     @NotNull
+    @ToString.Exclude
     private List<Review> reviews;
 
     public ProjectDTO toDTO() {
@@ -116,11 +131,11 @@ public class Project implements Serializable {
                                 .collect(Collectors.toList()))
                 .title(title)
                 .featured(featured)
-                .languages(languages)
-                .tags(tags)
-                .forumTags(forumTags)
+                .languages(new ArrayList<>(languages))
+                .tags(new ArrayList<>(tags))
+                .forumTags(new ArrayList<>(forumTags))
                 .description(description)
-                .links(links)
+                .links(new ArrayList<>(links))
                 .owner(owner.toDTO())
                 .collaborators(collaborators.stream().map(User::toDTO).collect(Collectors.toList()))
                 .applicants(applicants.stream().map(User::toDTO).collect(Collectors.toList()))
@@ -0,0 +1,39 @@
+package com.a2.backend.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * Score of the latest review a collaborator received on a project. The reputation of a user is the
+ * average of these rows, kept as a running sum and count on the user itself.
+ */
+@Entity
+@Table(
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_reputation_score_collaborator_project",
+                        columnNames = {"collaborator_id", "project_id"}))
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class ReputationScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @NotNull @ManyToOne private User collaborator;
+
+    @NotNull @ManyToOne private Project project;
+
+    private int score;
+
+    @NotNull private LocalDateTime date;
+}
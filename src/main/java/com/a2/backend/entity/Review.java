@@ -7,6 +7,7 @@ import javax.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_review_collaborator", columnList = "collaborator_id, date"))
 @Getter
 @Setter
 @ToString
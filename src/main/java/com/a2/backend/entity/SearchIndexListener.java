@@ -0,0 +1,69 @@
+package com.a2.backend.entity;
+
+import com.a2.backend.constants.SearchDocumentType;
+import com.a2.backend.event.SearchDocumentChangedEvent;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Reports every write to a searchable entity so the full text index follows the database, whatever
+ * code path made the change. Hidden or inactive entities are reported as removed.
+ */
+public class SearchIndexListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SearchIndexListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        eventPublisher.publishEvent(toEvent(entity, false));
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        eventPublisher.publishEvent(toEvent(entity, true));
+    }
+
+    private static SearchDocumentChangedEvent toEvent(Object entity, boolean removed) {
+        if (entity instanceof Project) {
+            Project project = (Project) entity;
+            return removed
+                    ? SearchDocumentChangedEvent.removed(
+                            SearchDocumentType.PROJECT, project.getId())
+                    : SearchDocumentChangedEvent.indexed(
+                            SearchDocumentType.PROJECT,
+                            project.getId(),
+                            project.getId(),
+                            project.getTitle(),
+                            project.getDescription());
+        }
+        if (entity instanceof Discussion) {
+            Discussion discussion = (Discussion) entity;
+            return removed || !discussion.isActive()
+                    ? SearchDocumentChangedEvent.removed(
+                            SearchDocumentType.DISCUSSION, discussion.getId())
+                    : SearchDocumentChangedEvent.indexed(
+                            SearchDocumentType.DISCUSSION,
+                            discussion.getId(),
+                            discussion.getProject().getId(),
+                            discussion.getTitle(),
+                            discussion.getBody());
+        }
+        Comment comment = (Comment) entity;
+        // The project of a comment is only looked up for the comments shown in search results
+        return removed || !comment.isActive() || comment.isHidden()
+                ? SearchDocumentChangedEvent.removed(SearchDocumentType.COMMENT, comment.getId())
+                : SearchDocumentChangedEvent.indexed(
+                        SearchDocumentType.COMMENT,
+                        comment.getId(),
+                        null,
+                        null,
+                        comment.getComment());
+    }
+}
@@ -1,5 +1,6 @@
 package com.a2.backend.entity;
 
+import com.a2.backend.constants.DigestInterval;
 import com.a2.backend.constants.PrivacyConstant;
 import com.a2.backend.model.ProjectUserDTO;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -7,10 +8,15 @@ import java.util.List;
 import java.util.UUID;
 import javax.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.annotations.ColumnDefault;
 
+/**
+ * Preferences are lazy, since most use cases only need the user itself. Reading them goes through
+ * the entity graph below; Hibernate cannot join fetch two bags in one query, so the languages are
+ * initialized in a batch when touched (see {@code hibernate.default_batch_fetch_size}).
+ */
 @Entity
+@NamedEntityGraph(name = "User.preferences", attributeNodes = @NamedAttributeNode("preferredTags"))
 @Getter
 @Setter
 @ToString
@@ -35,13 +41,9 @@ public class User {
 
     @JsonIgnore String password; // Hashed
 
-    @ElementCollection
-    @LazyCollection(LazyCollectionOption.FALSE)
-    private List<String> preferredTags;
+    @ElementCollection @ToString.Exclude private List<String> preferredTags;
 
-    @ElementCollection
-    @LazyCollection(LazyCollectionOption.FALSE)
-    private List<String> preferredLanguages;
+    @ElementCollection @ToString.Exclude private List<String> preferredLanguages;
 
     @Builder.Default private PrivacyConstant tagsPrivacy = PrivacyConstant.PUBLIC;
 
@@ -53,6 +55,18 @@ public class User {
 
     @Builder.Default double reputation = 0;
 
+    // Running total of the scores in the user's ReputationScore rows, so the average is O(1).
+    // Defaults let the schema update add the columns to tables that already have users.
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Builder.Default
+    long reputationScoreSum = 0;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Builder.Default
+    int reputationScoreCount = 0;
+
     @JsonIgnore String confirmationToken;
 
     @JsonIgnore String passwordRecoveryToken;
@@ -61,6 +75,8 @@ public class User {
 
     @Builder.Default boolean allowsNotifications = true;
 
+    @Builder.Default DigestInterval digestInterval = DigestInterval.IMMEDIATE;
+
     public ProjectUserDTO toDTO() {
         return ProjectUserDTO.builder().id(id).nickname(nickname).email(email).build();
     }
@@ -0,0 +1,43 @@
+package com.a2.backend.entity;
+
+import com.a2.backend.constants.VocabularyType;
+import com.a2.backend.event.VocabularyChangedEvent;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import org.springframework.context.ApplicationEventPublisher;
+
+/** Reports tags, forum tags and languages as they are stored or deleted, for the suggestions. */
+public class VocabularyIndexListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public VocabularyIndexListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersisted(Object entity) {
+        eventPublisher.publishEvent(VocabularyChangedEvent.added(typeOf(entity), nameOf(entity)));
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        eventPublisher.publishEvent(VocabularyChangedEvent.removed(typeOf(entity), nameOf(entity)));
+    }
+
+    private static VocabularyType typeOf(Object entity) {
+        if (entity instanceof Tag) {
+            return VocabularyType.TAG;
+        }
+        return entity instanceof Language ? VocabularyType.LANGUAGE : VocabularyType.FORUM_TAG;
+    }
+
+    private static String nameOf(Object entity) {
+        if (entity instanceof Tag) {
+            return ((Tag) entity).getName();
+        }
+        return entity instanceof Language
+                ? ((Language) entity).getName()
+                : ((ForumTag) entity).getName();
+    }
+}
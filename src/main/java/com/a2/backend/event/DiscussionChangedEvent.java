@@ -0,0 +1,47 @@
+package com.a2.backend.event;
+
+import com.a2.backend.entity.Discussion;
+import com.a2.backend.entity.ForumTag;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Published when a discussion is created, updated or closed, carrying the names of its forum tags.
+ * A closed discussion carries none, as it no longer uses them.
+ */
+@Getter
+public class DiscussionChangedEvent {
+
+    private final UUID discussionId;
+
+    private final UUID projectId;
+
+    private final boolean closed;
+
+    private final List<String> forumTags;
+
+    private DiscussionChangedEvent(
+            UUID discussionId, UUID projectId, boolean closed, List<String> forumTags) {
+        this.discussionId = discussionId;
+        this.projectId = projectId;
+        this.closed = closed;
+        this.forumTags = forumTags;
+    }
+
+    public static DiscussionChangedEvent saved(Discussion discussion) {
+        return new DiscussionChangedEvent(
+                discussion.getId(),
+                discussion.getProject().getId(),
+                false,
+                discussion.getForumTags().stream()
+                        .map(ForumTag::getName)
+                        .collect(Collectors.toList()));
+    }
+
+    public static DiscussionChangedEvent closed(Discussion discussion) {
+        return new DiscussionChangedEvent(
+                discussion.getId(), discussion.getProject().getId(), true, List.of());
+    }
+}
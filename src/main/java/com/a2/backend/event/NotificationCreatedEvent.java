@@ -0,0 +1,15 @@
+package com.a2.backend.event;
+
+import com.a2.backend.model.NotificationDTO;
+import lombok.Getter;
+
+/** Published when a notification is stored, once the transaction that stored it commits. */
+@Getter
+public class NotificationCreatedEvent {
+
+    private final NotificationDTO notification;
+
+    public NotificationCreatedEvent(NotificationDTO notification) {
+        this.notification = notification;
+    }
+}
@@ -0,0 +1,55 @@
+package com.a2.backend.event;
+
+import com.a2.backend.entity.Language;
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.Tag;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Published when a project is created, updated or deleted, carrying what the recommendation index
+ * needs so listeners do not have to read the project again.
+ */
+@Getter
+public class ProjectChangedEvent {
+
+    private final UUID projectId;
+
+    private final boolean deleted;
+
+    private final boolean featured;
+
+    private final List<String> tags;
+
+    private final List<String> languages;
+
+    private ProjectChangedEvent(
+            UUID projectId,
+            boolean deleted,
+            boolean featured,
+            List<String> tags,
+            List<String> languages) {
+        this.projectId = projectId;
+        this.deleted = deleted;
+        this.featured = featured;
+        this.tags = tags;
+        this.languages = languages;
+    }
+
+    public static ProjectChangedEvent saved(Project project) {
+        return new ProjectChangedEvent(
+                project.getId(),
+                false,
+                project.isFeatured(),
+                project.getTags().stream().map(Tag::getName).collect(Collectors.toList()),
+                project.getLanguages().stream()
+                        .map(Language::getName)
+                        .collect(Collectors.toList()));
+    }
+
+    public static ProjectChangedEvent deleted(UUID projectId) {
+        return new ProjectChangedEvent(projectId, true, false, List.of(), List.of());
+    }
+}
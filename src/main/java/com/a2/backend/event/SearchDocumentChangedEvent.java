@@ -0,0 +1,45 @@
+package com.a2.backend.event;
+
+import com.a2.backend.constants.SearchDocumentType;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Published by {@link com.a2.backend.entity.SearchIndexListener} when a searchable entity is
+ * written. A document that is removed, or must no longer be found, has no text.
+ */
+@Getter
+public class SearchDocumentChangedEvent {
+
+    private final SearchDocumentType type;
+
+    private final UUID id;
+
+    private final UUID projectId;
+
+    private final String title;
+
+    private final String body;
+
+    private SearchDocumentChangedEvent(
+            SearchDocumentType type, UUID id, UUID projectId, String title, String body) {
+        this.type = type;
+        this.id = id;
+        this.projectId = projectId;
+        this.title = title;
+        this.body = body;
+    }
+
+    public static SearchDocumentChangedEvent indexed(
+            SearchDocumentType type, UUID id, UUID projectId, String title, String body) {
+        return new SearchDocumentChangedEvent(type, id, projectId, title, body);
+    }
+
+    public static SearchDocumentChangedEvent removed(SearchDocumentType type, UUID id) {
+        return new SearchDocumentChangedEvent(type, id, null, null, null);
+    }
+
+    public boolean isRemoved() {
+        return title == null && body == null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.a2.backend.event;
+
+import com.a2.backend.constants.VocabularyType;
+import lombok.Getter;
+
+/**
+ * Published by {@link com.a2.backend.entity.VocabularyIndexListener} when a tag, forum tag or
+ * language is stored or deleted.
+ */
+@Getter
+public class VocabularyChangedEvent {
+
+    private final VocabularyType type;
+
+    private final String name;
+
+    private final boolean removed;
+
+    private VocabularyChangedEvent(VocabularyType type, String name, boolean removed) {
+        this.type = type;
+        this.name = name;
+        this.removed = removed;
+    }
+
+    public static VocabularyChangedEvent added(VocabularyType type, String name) {
+        return new VocabularyChangedEvent(type, name, false);
+    }
+
+    public static VocabularyChangedEvent removed(VocabularyType type, String name) {
+        return new VocabularyChangedEvent(type, name, true);
+    }
+}
@@ -0,0 +1,23 @@
+package com.a2.backend.event;
+
+import com.a2.backend.constants.VocabularyType;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Published when a project or discussion stops using some tags, forum tags or languages, so the
+ * ones nothing else uses can be deleted once the change is committed.
+ */
+@Getter
+public class VocabularyReleasedEvent {
+
+    private final VocabularyType type;
+
+    private final List<UUID> ids;
+
+    public VocabularyReleasedEvent(VocabularyType type, List<UUID> ids) {
+        this.type = type;
+        this.ids = List.copyOf(ids);
+    }
+}
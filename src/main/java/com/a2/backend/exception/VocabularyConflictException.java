@@ -0,0 +1,7 @@
+package com.a2.backend.exception;
+
+public class VocabularyConflictException extends RuntimeException {
+    public VocabularyConflictException(String message) {
+        super(message);
+    }
+}
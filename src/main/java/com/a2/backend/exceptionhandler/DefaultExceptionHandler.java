@@ -152,4 +152,16 @@ public class DefaultExceptionHandler {
         logger.info(exception.getMessage());
         return new ResponseEntity(exception.getMessage(), HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<?> handleInvalidCursor(InvalidCursorException exception) {
+        logger.info(exception.getMessage());
+        return new ResponseEntity(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(VocabularyConflictException.class)
+    protected ResponseEntity<?> handleVocabularyConflict(VocabularyConflictException exception) {
+        logger.info(exception.getMessage());
+        return new ResponseEntity(exception.getMessage(), HttpStatus.CONFLICT);
+    }
 }
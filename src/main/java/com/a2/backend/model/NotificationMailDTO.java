@@ -0,0 +1,17 @@
+package com.a2.backend.model;
+
+import com.a2.backend.constants.NotificationType;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationMailDTO {
+
+    private NotificationType type;
+
+    private String projectTitle;
+}
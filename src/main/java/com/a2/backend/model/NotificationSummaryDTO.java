@@ -0,0 +1,38 @@
+package com.a2.backend.model;
+
+import com.a2.backend.constants.NotificationType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+
+/** Flat view of a notification for the inbox, with only the ids and names the frontend shows. */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSummaryDTO {
+
+    private UUID id;
+
+    private NotificationType type;
+
+    private boolean seen;
+
+    private LocalDateTime date;
+
+    private UUID projectId;
+
+    private String projectTitle;
+
+    private UUID discussionId;
+
+    private String discussionTitle;
+
+    private UUID commentId;
+
+    private UUID userId;
+
+    private String userNickname;
+}
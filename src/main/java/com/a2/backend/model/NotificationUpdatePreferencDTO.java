@@ -1,5 +1,6 @@
 package com.a2.backend.model;
 
+import com.a2.backend.constants.DigestInterval;
 import javax.validation.constraints.NotNull;
 import lombok.*;
 
@@ -11,4 +12,7 @@ import lombok.*;
 @AllArgsConstructor
 public class NotificationUpdatePreferencDTO {
     @NotNull boolean allowsNotifications;
+
+    // Left as it is when not sent
+    DigestInterval digestInterval;
 }
@@ -1,6 +1,8 @@
 package com.a2.backend.model;
 
 import java.util.List;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.Size;
 import lombok.*;
 
@@ -24,4 +26,10 @@ public class ProjectSearchDTO {
     @Builder.Default private int page = -1;
 
     @Builder.Default private boolean featured = false;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be between 1 and 50")
+    @Max(value = 50, message = "Page size must be between 1 and 50")
+    private Integer size;
 }
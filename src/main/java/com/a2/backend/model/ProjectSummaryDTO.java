@@ -0,0 +1,57 @@
+package com.a2.backend.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryDTO {
+
+    private UUID id;
+
+    private String title;
+
+    private boolean featured;
+
+    private String ownerNickname;
+
+    @Builder.Default private List<String> tags = new ArrayList<>();
+
+    @Builder.Default private List<String> languages = new ArrayList<>();
+
+    private int collaboratorAmount;
+
+    private int applicantAmount;
+
+    private int reviewAmount;
+
+    private long discussionAmount;
+
+    /** Used by the summary query, tag and language names are filled in afterwards. */
+    public ProjectSummaryDTO(
+            UUID id,
+            String title,
+            boolean featured,
+            String ownerNickname,
+            int collaboratorAmount,
+            int applicantAmount,
+            int reviewAmount,
+            long discussionAmount) {
+        this.id = id;
+        this.title = title;
+        this.featured = featured;
+        this.ownerNickname = ownerNickname;
+        this.tags = new ArrayList<>();
+        this.languages = new ArrayList<>();
+        this.collaboratorAmount = collaboratorAmount;
+        this.applicantAmount = applicantAmount;
+        this.reviewAmount = reviewAmount;
+        this.discussionAmount = discussionAmount;
+    }
+}
@@ -0,0 +1,16 @@
+package com.a2.backend.model;
+
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryResultDTO {
+    List<ProjectSummaryDTO> projects;
+    int pageAmount;
+    String next;
+}
@@ -0,0 +1,15 @@
+package com.a2.backend.model;
+
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewResultDTO {
+    List<ReviewDTO> reviews;
+    int pageAmount;
+}
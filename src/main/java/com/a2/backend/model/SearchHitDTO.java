@@ -0,0 +1,22 @@
+package com.a2.backend.model;
+
+import com.a2.backend.constants.SearchDocumentType;
+import java.util.UUID;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    SearchDocumentType type;
+    UUID id;
+    UUID projectId;
+    UUID discussionId;
+    String title;
+    // Snippet of the matching text with the matched words wrapped in <em> tags
+    String highlight;
+    double score;
+}
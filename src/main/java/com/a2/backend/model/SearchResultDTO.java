@@ -12,4 +12,5 @@ import lombok.*;
 public class SearchResultDTO {
     List<ProjectDTO> projects;
     int pageAmount;
+    String next;
 }
@@ -1,9 +1,12 @@
 package com.a2.backend.repository;
 
 import com.a2.backend.entity.Discussion;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -11,6 +14,10 @@ public interface DiscussionRepository extends JpaRepository<Discussion, UUID> {
     @Query("SELECT d FROM Discussion d WHERE d.title LIKE ?2 AND d.project.id=?1")
     Discussion findByProjectIdAndTitle(UUID id, String title);
 
+    @EntityGraph("Discussion.detail")
+    Optional<Discussion> findDetailById(UUID id);
+
+    @EntityGraph("Discussion.detail")
     @Query("SELECT DISTINCT d FROM Discussion d JOIN d.comments c WHERE UPPER(c.id) = ?1 ")
     Optional<Discussion> findDiscussionByCommentId(UUID commentId);
 
@@ -18,4 +25,31 @@ public interface DiscussionRepository extends JpaRepository<Discussion, UUID> {
 
     @Query("SELECT DISTINCT d FROM Discussion d JOIN d.forumTags t WHERE UPPER(t.name) = ?1 ")
     List<Discussion> findDiscussionsByTagName(String name);
+
+    @Query(
+            "SELECT d.id, d.project.id, d.title, d.body FROM Discussion d"
+                    + " WHERE d.isActive = true ORDER BY d.id")
+    List<Object[]> findSearchDocuments(Pageable pageable);
+
+    @Query(
+            "SELECT c.id, c.comment FROM Discussion d JOIN d.comments c"
+                    + " WHERE d.isActive = true AND c.isActive = true AND c.hidden = false"
+                    + " ORDER BY c.id")
+    List<Object[]> findCommentSearchDocuments(Pageable pageable);
+
+    /**
+     * Reads the (comment id, discussion id, discussion title, project id) of active discussions.
+     */
+    @Query(
+            "SELECT c.id, d.id, d.title, d.project.id FROM Discussion d JOIN d.comments c"
+                    + " WHERE c.id IN ?1 AND d.isActive = true")
+    List<Object[]> findCommentLocations(Collection<UUID> commentIds);
+
+    @Query("SELECT c.id FROM Discussion d JOIN d.comments c WHERE d.id = ?1")
+    List<UUID> findCommentIds(UUID discussionId);
+
+    @Query(
+            "SELECT d.id, d.project.id, t.name FROM Discussion d JOIN d.forumTags t"
+                    + " WHERE d.isActive = true")
+    List<Object[]> findForumTagNames();
 }
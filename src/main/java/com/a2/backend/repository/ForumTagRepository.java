@@ -1,16 +1,44 @@
 package com.a2.backend.repository;
 
 import com.a2.backend.entity.ForumTag;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ForumTagRepository extends JpaRepository<ForumTag, UUID> {
 
     Optional<ForumTag> findByName(String name);
 
-    @Query("SELECT DISTINCT name FROM ForumTag t WHERE UPPER(t.name)  LIKE %?1%")
-    List<String> findForumTagName(String name);
+    List<ForumTag> findByNameIn(Collection<String> names);
+
+    @Query("SELECT t.name FROM ForumTag t")
+    List<String> findAllNames();
+
+    /**
+     * Reads the (id, name) of the given forum tags that nothing uses anymore and were created
+     * before the given time.
+     */
+    @Query(
+            "SELECT t.id, t.name FROM ForumTag t WHERE t.id IN ?1"
+                    + " AND NOT EXISTS (SELECT d.id FROM Discussion d JOIN d.forumTags dt WHERE dt = t)"
+                    + " AND NOT EXISTS (SELECT p.id FROM Project p JOIN p.forumTags pt WHERE pt = t)"
+                    + " AND (t.createdAt IS NULL OR t.createdAt < ?2)")
+    List<Object[]> findUnusedIn(Collection<UUID> ids, LocalDateTime createdBefore);
+
+    @Query(
+            "SELECT t.id, t.name FROM ForumTag t"
+                    + " WHERE NOT EXISTS (SELECT d.id FROM Discussion d JOIN d.forumTags dt WHERE dt = t)"
+                    + " AND NOT EXISTS (SELECT p.id FROM Project p JOIN p.forumTags pt WHERE pt = t)"
+                    + " AND (t.createdAt IS NULL OR t.createdAt < ?1)")
+    List<Object[]> findUnused(LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ForumTag t WHERE t.id IN ?1")
+    int deleteByIds(Collection<UUID> ids);
 }
@@ -1,16 +1,41 @@
 package com.a2.backend.repository;
 
 import com.a2.backend.entity.Language;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface LanguageRepository extends JpaRepository<Language, UUID> {
 
     Optional<Language> findByName(String name);
 
-    @Query("SELECT DISTINCT name FROM Language l WHERE UPPER(l.name) LIKE %?1%")
-    List<String> findLanguageName(String name);
+    List<Language> findByNameIn(Collection<String> names);
+
+    @Query("SELECT l.name FROM Language l")
+    List<String> findAllNames();
+
+    /**
+     * Reads the (id, name) of the given languages that nothing uses anymore and were created before
+     * the given time.
+     */
+    @Query(
+            "SELECT l.id, l.name FROM Language l WHERE l.id IN ?1"
+                    + " AND NOT EXISTS (SELECT p.id FROM Project p JOIN p.languages pl WHERE pl = l)"
+                    + " AND (l.createdAt IS NULL OR l.createdAt < ?2)")
+    List<Object[]> findUnusedIn(Collection<UUID> ids, LocalDateTime createdBefore);
+
+    @Query(
+            "SELECT l.id, l.name FROM Language l WHERE NOT EXISTS (SELECT p.id FROM Project p JOIN p.languages pl WHERE pl = l)"
+                    + " AND (l.createdAt IS NULL OR l.createdAt < ?1)")
+    List<Object[]> findUnused(LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Language l WHERE l.id IN ?1")
+    int deleteByIds(Collection<UUID> ids);
 }
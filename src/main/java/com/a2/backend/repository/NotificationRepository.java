@@ -2,13 +2,72 @@ package com.a2.backend.repository;
 
 import com.a2.backend.entity.Notification;
 import com.a2.backend.entity.User;
+import com.a2.backend.model.NotificationSummaryDTO;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
     List<Notification> findAllByUserToNotify(User userToNotify);
 
+    List<Notification> findAllByUserToNotifyOrderByDateDesc(User userToNotify);
+
+    List<Notification> findTop5ByUserToNotifyOrderByDateDesc(User userToNotify);
+
+    long countByUserToNotifyIdAndSeenFalse(UUID userToNotifyId);
+
+    String INBOX_QUERY =
+            "SELECT new com.a2.backend.model.NotificationSummaryDTO("
+                    + "n.id, n.type, n.seen, n.date, p.id, p.title, d.id, d.title,"
+                    + " c.id, u.id, u.nickname)"
+                    + " FROM Notification n LEFT JOIN n.project p"
+                    + " LEFT JOIN n.discussion d LEFT JOIN n.comment c LEFT JOIN n.user u"
+                    + " WHERE n.userToNotify.id = :userId"
+                    + " ORDER BY n.date DESC, n.id DESC";
+
+    @Query(
+            value = INBOX_QUERY,
+            countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.userToNotify.id = :userId")
+    Page<NotificationSummaryDTO> findInbox(@Param("userId") UUID userId, Pageable pageable);
+
+    /** Same rows as {@link #findInbox}, without counting the whole inbox. */
+    @Query(INBOX_QUERY)
+    List<NotificationSummaryDTO> findInboxSlice(@Param("userId") UUID userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "UPDATE Notification n SET n.seen = true"
+                    + " WHERE n.userToNotify.id = :userId AND n.seen = false")
+    int markAllAsSeen(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "UPDATE Notification n SET n.seen = true"
+                    + " WHERE n.userToNotify.id = :userId AND n.seen = false AND n.id IN :ids")
+    int markAsSeen(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "UPDATE Notification n SET n.seen = true"
+                    + " WHERE n.userToNotify.id = :userId AND n.seen = false"
+                    + " AND n.date <= :until")
+    int markAsSeenUntil(@Param("userId") UUID userId, @Param("until") LocalDateTime until);
+
+    @Query("SELECT n.id FROM Notification n WHERE n.seen = true AND n.date < :cutoff")
+    List<UUID> findSeenIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Bulk delete, so the REMOVE cascades on the notification associations are not applied
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
     void deleteNotificationByDiscussion_Id(UUID discussion_id);
 }
@@ -0,0 +1,80 @@
+package com.a2.backend.repository;
+
+import com.a2.backend.constants.OutboxMailStatus;
+import com.a2.backend.entity.OutboxMail;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, UUID> {
+
+    @Query(
+            "SELECT m.recipient FROM OutboxMail m"
+                    + " WHERE m.status = :status AND m.nextAttemptAt <= :now"
+                    + " GROUP BY m.recipient ORDER BY MIN(m.createdAt)")
+    List<String> findRecipientsWithDueMails(
+            @Param("status") OutboxMailStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * Takes the due mails of a recipient, pushing them back by the lease so no one else does. Mails
+     * still waiting for their digest window, never attempted nor claimed, go along with the due
+     * ones; failed mails keep waiting for their retry and mails claimed by another worker are left
+     * alone until their lease runs out.
+     */
+    @Modifying
+    @Query(
+            "UPDATE OutboxMail m SET m.claim = :claim, m.nextAttemptAt = :leaseEnd"
+                    + " WHERE m.recipient = :recipient AND m.status = :status"
+                    + " AND (m.nextAttemptAt <= :now OR (m.claim IS NULL AND m.attempts = 0))")
+    int claimDueMails(
+            @Param("claim") UUID claim,
+            @Param("leaseEnd") LocalDateTime leaseEnd,
+            @Param("recipient") String recipient,
+            @Param("status") OutboxMailStatus status,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Stores the outcome of a delivery only while the mail is still under the given claim, so a
+     * worker whose lease ran out cannot overwrite the mail another worker took over.
+     */
+    @Modifying
+    @Query(
+            "UPDATE OutboxMail m SET m.claim = NULL, m.status = :status, m.attempts = :attempts,"
+                    + " m.nextAttemptAt = :nextAttemptAt WHERE m.id = :id AND m.claim = :claim")
+    int release(
+            @Param("id") UUID id,
+            @Param("claim") UUID claim,
+            @Param("status") OutboxMailStatus status,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /** Deletes the pending mails of a recipient that no worker is delivering right now. */
+    @Modifying
+    @Query(
+            "DELETE FROM OutboxMail m WHERE m.recipient = :recipient AND m.status = :status"
+                    + " AND (m.claim IS NULL OR m.nextAttemptAt <= :now)")
+    int deleteUnclaimed(
+            @Param("recipient") String recipient,
+            @Param("status") OutboxMailStatus status,
+            @Param("now") LocalDateTime now);
+
+    List<OutboxMail> findByClaimOrderByCreatedAt(UUID claim);
+
+    @Query("SELECT m.id FROM OutboxMail m WHERE m.status IN :statuses AND m.createdAt < :cutoff")
+    List<UUID> findIdsByStatusCreatedBefore(
+            @Param("statuses") Collection<OutboxMailStatus> statuses,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMail m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
@@ -2,19 +2,45 @@ package com.a2.backend.repository;
 
 import com.a2.backend.entity.Project;
 import com.a2.backend.entity.User;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository
+        extends JpaRepository<Project, UUID>,
+                JpaSpecificationExecutor<Project>,
+                ProjectRepositoryCustom {
 
+    @EntityGraph("Project.detail")
     Optional<Project> findByTitle(String title);
 
+    boolean existsByTitle(String title);
+
+    boolean existsByIdAndOwnerId(UUID projectId, UUID ownerId);
+
+    boolean existsByIdAndCollaboratorsId(UUID projectId, UUID collaboratorId);
+
+    boolean existsByIdAndApplicantsId(UUID projectId, UUID applicantId);
+
+    @EntityGraph("Project.detail")
+    Optional<Project> findDetailById(UUID id);
+
+    @EntityGraph("Project.membership")
+    Optional<Project> findWithMembersById(UUID id);
+
+    @EntityGraph("Project.review")
+    Optional<Project> findWithReviewsById(UUID id);
+
     void deleteByOwner(User owner);
 
+    @Query("SELECT p.id FROM Project p WHERE p.owner = ?1")
+    List<UUID> findIdsByOwner(User owner);
+
     @Query("SELECT DISTINCT p FROM Project p JOIN p.tags t WHERE UPPER(t.name) = ?1 ")
     List<Project> findProjectsByTagName(String name);
 
@@ -23,9 +49,6 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findByTitleContainingIgnoreCase(String title);
 
-    @Query("SELECT DISTINCT p FROM Project p WHERE p.featured=?1 AND UPPER(p.title) LIKE %?2% ")
-    List<Project> findByTitleContainingIgnoreCaseAndFeatured(Boolean featured, String title);
-
     @Query("SELECT DISTINCT p FROM Project p WHERE p.featured=?1")
     List<Project> findAllByFeatured(Boolean featured);
 
@@ -33,36 +56,15 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findByCollaboratorsContaining(User user);
 
-    @Query(
-            "SELECT DISTINCT p FROM Project p JOIN p.languages l WHERE p.featured=?1 AND UPPER(l.name) IN ?2 ")
-    List<Project> findProjectsByLanguagesInAndFeatured(
-            Boolean featured, Collection<String> languages);
-
-    @Query(
-            "SELECT DISTINCT p FROM Project p JOIN p.tags t WHERE p.featured=?1 AND UPPER(t.name) IN ?2 ")
-    List<Project> findProjectsByTagsInAndFeatured(Boolean featured, Collection<String> tags);
-
-    @Query(
-            "SELECT DISTINCT p FROM Project p JOIN p.tags t WHERE p.featured=?1 AND UPPER(p.title) LIKE %?2% AND UPPER(t.name) IN ?3 ")
-    List<Project> findProjectsByTagsInAndTitleAndFeatured(
-            Boolean featured, String title, Collection<String> tags);
-
-    @Query(
-            "SELECT DISTINCT p FROM Project p JOIN p.languages l WHERE p.featured=?1 AND UPPER(p.title) LIKE %?2% AND UPPER(l.name) IN ?3 ")
-    List<Project> findProjectsByLanguagesInAndTitleAndFeatured(
-            Boolean featured, String title, Collection<String> languages);
-
-    @Query("SELECT DISTINCT p FROM Project p JOIN p.languages l WHERE UPPER(l.name) IN ?1 ")
-    List<Project> findProjectsByLanguagesIn(Collection<String> languages);
+    @Query("SELECT p.id, p.title, p.description FROM Project p ORDER BY p.id")
+    List<Object[]> findSearchDocuments(Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Project p JOIN p.tags t WHERE UPPER(t.name) IN ?1 ")
-    List<Project> findProjectsByTagsIn(Collection<String> tags);
+    @Query("SELECT p.id, p.featured FROM Project p")
+    List<Object[]> findFeaturedFlags();
 
-    @Query(
-            "SELECT DISTINCT p FROM Project p JOIN p.tags t WHERE UPPER(p.title) LIKE %?1% AND UPPER(t.name) IN ?2 ")
-    List<Project> findProjectsByTagsInAndTitle(String title, Collection<String> tags);
+    @Query("SELECT p.id, t.name FROM Project p JOIN p.tags t")
+    List<Object[]> findTagNames();
 
-    @Query(
-            "SELECT DISTINCT p FROM Project p JOIN p.languages l WHERE UPPER(p.title) LIKE %?1% AND UPPER(l.name) IN ?2 ")
-    List<Project> findProjectsByLanguagesInAndTitle(String title, Collection<String> languages);
+    @Query("SELECT p.id, l.name FROM Project p JOIN p.languages l")
+    List<Object[]> findLanguageNames();
 }
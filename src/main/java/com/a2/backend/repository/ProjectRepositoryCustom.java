@@ -0,0 +1,23 @@
+package com.a2.backend.repository;
+
+import com.a2.backend.entity.Project;
+import com.a2.backend.model.ProjectSummaryDTO;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} projects matching the specification in the given order. Unlike
+     * the paged {@code findAll} no count query is issued.
+     */
+    List<Project> findLimited(Specification<Project> specification, Sort sort, int limit);
+
+    /**
+     * Reads the card view of the projects matching the specification straight from the database,
+     * without loading their discussions, members or reviews.
+     */
+    List<ProjectSummaryDTO> findSummaries(
+            Specification<Project> specification, Sort sort, int offset, int limit);
+}
@@ -0,0 +1,116 @@
+package com.a2.backend.repository;
+
+import com.a2.backend.entity.Discussion;
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.User;
+import com.a2.backend.model.ProjectSummaryDTO;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public ProjectRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Project> findLimited(Specification<Project> specification, Sort sort, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Project> query = builder.createQuery(Project.class);
+        Root<Project> root = query.from(Project.class);
+
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<ProjectSummaryDTO> findSummaries(
+            Specification<Project> specification, Sort sort, int offset, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectSummaryDTO> query = builder.createQuery(ProjectSummaryDTO.class);
+        Root<Project> root = query.from(Project.class);
+        Join<Project, User> owner = root.join("owner");
+
+        Subquery<Long> activeDiscussions = query.subquery(Long.class);
+        Root<Project> project = activeDiscussions.correlate(root);
+        Join<Project, Discussion> discussion = project.join("discussions");
+        activeDiscussions
+                .select(builder.count(discussion))
+                .where(builder.isTrue(discussion.get("isActive")));
+
+        query.select(
+                builder.construct(
+                        ProjectSummaryDTO.class,
+                        root.get("id"),
+                        root.get("title"),
+                        root.get("featured"),
+                        owner.get("nickname"),
+                        builder.size(root.<List<User>>get("collaborators")),
+                        builder.size(root.<List<User>>get("applicants")),
+                        builder.size(root.<List<?>>get("reviews")),
+                        activeDiscussions));
+
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        List<ProjectSummaryDTO> summaries =
+                entityManager
+                        .createQuery(query)
+                        .setFirstResult(offset)
+                        .setMaxResults(limit)
+                        .getResultList();
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        Map<UUID, ProjectSummaryDTO> summariesById =
+                summaries.stream()
+                        .collect(Collectors.toMap(ProjectSummaryDTO::getId, Function.identity()));
+        findNames("tags", summariesById.keySet())
+                .forEach(row -> summariesById.get((UUID) row[0]).getTags().add((String) row[1]));
+        findNames("languages", summariesById.keySet())
+                .forEach(
+                        row ->
+                                summariesById
+                                        .get((UUID) row[0])
+                                        .getLanguages()
+                                        .add((String) row[1]));
+        return summaries;
+    }
+
+    /** Reads the (project id, name) pairs of a named association for all projects at once. */
+    private List<Object[]> findNames(String association, Collection<UUID> projectIds) {
+        return entityManager
+                .createQuery(
+                        "SELECT p.id, n.name FROM Project p JOIN p."
+                                + association
+                                + " n WHERE p.id IN :ids ORDER BY n.name",
+                        Object[].class)
+                .setParameter("ids", projectIds)
+                .getResultList();
+    }
+}
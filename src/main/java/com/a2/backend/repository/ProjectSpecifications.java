@@ -0,0 +1,75 @@
+package com.a2.backend.repository;
+
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.User;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Composable predicates used to search projects on the database side. */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {}
+
+    public static Specification<Project> titleContains(String title) {
+        String pattern = "%" + title.toUpperCase(Locale.ROOT) + "%";
+        return (root, query, builder) ->
+                builder.like(builder.upper(root.<String>get("title")), pattern);
+    }
+
+    public static Specification<Project> isFeatured() {
+        return (root, query, builder) -> builder.isTrue(root.<Boolean>get("featured"));
+    }
+
+    /**
+     * Matches projects that sort strictly after the given (title, id) key, which is the keyset
+     * predicate used to resume a search from a cursor.
+     */
+    public static Specification<Project> after(String title, UUID id) {
+        return (root, query, builder) ->
+                builder.or(
+                        builder.greaterThan(root.<String>get("title"), title),
+                        builder.and(
+                                builder.equal(root.<String>get("title"), title),
+                                builder.greaterThan(root.<UUID>get("id"), id)));
+    }
+
+    public static Specification<Project> ownedBy(User owner) {
+        return (root, query, builder) -> builder.equal(root.get("owner"), owner);
+    }
+
+    public static Specification<Project> hasAllTags(Collection<String> tagNames) {
+        return hasAllNamed("tags", tagNames);
+    }
+
+    public static Specification<Project> hasAllLanguages(Collection<String> languageNames) {
+        return hasAllNamed("languages", languageNames);
+    }
+
+    /**
+     * Matches projects whose association contains every one of the given names, ignoring case. A
+     * correlated subquery counts the distinct matching names so no rows are duplicated in the outer
+     * query; rows whose names only differ in case count once.
+     */
+    private static Specification<Project> hasAllNamed(
+            String association, Collection<String> names) {
+        Set<String> upperCaseNames =
+                names.stream()
+                        .map(name -> name.toUpperCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+        return (root, query, builder) -> {
+            Subquery<Long> matches = query.subquery(Long.class);
+            Root<Project> project = matches.correlate(root);
+            Join<Project, ?> named = project.join(association);
+            matches.select(builder.countDistinct(builder.upper(named.<String>get("name"))))
+                    .where(builder.upper(named.<String>get("name")).in(upperCaseNames));
+            return builder.equal(matches, (long) upperCaseNames.size());
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.a2.backend.repository;
+
+import com.a2.backend.entity.ReputationScore;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReputationScoreRepository extends JpaRepository<ReputationScore, UUID> {
+
+    // Locked so two reviews of a collaborator on the same project replace the score in turn
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ReputationScore> findByCollaboratorIdAndProjectId(UUID collaboratorId, UUID projectId);
+
+    @Query(
+            "SELECT s FROM ReputationScore s JOIN FETCH s.collaborator"
+                    + " WHERE s.project.id IN :projectIds")
+    List<ReputationScore> findAllByProjectIds(@Param("projectIds") Collection<UUID> projectIds);
+}
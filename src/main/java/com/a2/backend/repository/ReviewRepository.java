@@ -2,6 +2,32 @@ package com.a2.backend.repository;
 
 import com.a2.backend.entity.Review;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReviewRepository extends JpaRepository<Review, UUID> {}
+public interface ReviewRepository extends JpaRepository<Review, UUID> {
+
+    @Query(
+            value =
+                    "SELECT r FROM Review r JOIN FETCH r.collaborator c"
+                            + " WHERE c.id = :collaboratorId ORDER BY r.date DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.collaborator.id = :collaboratorId")
+    Page<Review> findLatestByCollaboratorId(
+            @Param("collaboratorId") UUID collaboratorId, Pageable pageable);
+
+    @Query(
+            value =
+                    "SELECT r FROM Project p JOIN p.reviews r JOIN FETCH r.collaborator c"
+                            + " WHERE p.id = :projectId AND c.id = :collaboratorId"
+                            + " ORDER BY r.date DESC",
+            countQuery =
+                    "SELECT COUNT(r) FROM Project p JOIN p.reviews r"
+                            + " WHERE p.id = :projectId AND r.collaborator.id = :collaboratorId")
+    Page<Review> findLatestByProjectIdAndCollaboratorId(
+            @Param("projectId") UUID projectId,
+            @Param("collaboratorId") UUID collaboratorId,
+            Pageable pageable);
+}
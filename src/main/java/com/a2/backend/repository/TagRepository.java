@@ -1,16 +1,41 @@
 package com.a2.backend.repository;
 
 import com.a2.backend.entity.Tag;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface TagRepository extends JpaRepository<Tag, UUID> {
 
     Optional<Tag> findByName(String name);
 
-    @Query("SELECT DISTINCT name FROM Tag t WHERE UPPER(t.name)  LIKE %?1%")
-    List<String> findTagName(String tagname);
+    List<Tag> findByNameIn(Collection<String> names);
+
+    @Query("SELECT t.name FROM Tag t")
+    List<String> findAllNames();
+
+    /**
+     * Reads the (id, name) of the given tags that nothing uses anymore and were created before the
+     * given time.
+     */
+    @Query(
+            "SELECT t.id, t.name FROM Tag t WHERE t.id IN ?1"
+                    + " AND NOT EXISTS (SELECT p.id FROM Project p JOIN p.tags pt WHERE pt = t)"
+                    + " AND (t.createdAt IS NULL OR t.createdAt < ?2)")
+    List<Object[]> findUnusedIn(Collection<UUID> ids, LocalDateTime createdBefore);
+
+    @Query(
+            "SELECT t.id, t.name FROM Tag t WHERE NOT EXISTS (SELECT p.id FROM Project p JOIN p.tags pt WHERE pt = t)"
+                    + " AND (t.createdAt IS NULL OR t.createdAt < ?1)")
+    List<Object[]> findUnused(LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.id IN ?1")
+    int deleteByIds(Collection<UUID> ids);
 }
@@ -3,7 +3,11 @@ package com.a2.backend.repository;
 import com.a2.backend.entity.User;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
@@ -12,4 +16,22 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findById(UUID id);
 
     Optional<User> findByEmail(String email);
+
+    @EntityGraph("User.preferences")
+    Optional<User> findWithPreferencesById(UUID id);
+
+    @EntityGraph("User.preferences")
+    Optional<User> findWithPreferencesByEmail(String email);
+
+    /**
+     * Adds to the running reputation totals of a user in one statement, so concurrent reviews of
+     * the same collaborator all count. The update keeps the row locked until the transaction ends.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            "UPDATE User u SET u.reputationScoreSum = u.reputationScoreSum + :delta,"
+                    + " u.reputationScoreCount = u.reputationScoreCount + :count"
+                    + " WHERE u.id = :id")
+    int addReputationScore(
+            @Param("id") UUID id, @Param("delta") long delta, @Param("count") int count);
 }
@@ -1,17 +1,8 @@
 package com.a2.backend.security;
 
-import static com.a2.backend.constants.SecurityConstants.EXPIRATION_TIME;
-import static com.a2.backend.constants.SecurityConstants.KEY;
-
 import com.a2.backend.model.LoginDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import java.io.IOException;
-import java.security.Key;
-import java.sql.Date;
 import java.util.ArrayList;
 import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
@@ -24,9 +15,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     private AuthenticationManager authenticationManager;
+    private final TokenCodec tokenCodec;
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager) {
+    public AuthenticationFilter(
+            AuthenticationManager authenticationManager, TokenCodec tokenCodec) {
         this.authenticationManager = authenticationManager;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -54,21 +48,10 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
             HttpServletResponse res,
             FilterChain chain,
             Authentication auth) {
-        Date exp = new Date(System.currentTimeMillis() + EXPIRATION_TIME);
-
-        Key key = Keys.hmacShaKeyFor(KEY.getBytes());
-        Claims claims =
-                Jwts.claims()
-                        .setSubject(
-                                ((org.springframework.security.core.userdetails.User)
-                                                auth.getPrincipal())
-                                        .getUsername());
         String token =
-                Jwts.builder()
-                        .setClaims(claims)
-                        .signWith(key, SignatureAlgorithm.HS512)
-                        .setExpiration(exp)
-                        .compact();
+                tokenCodec.encode(
+                        ((org.springframework.security.core.userdetails.User) auth.getPrincipal())
+                                .getUsername());
         res.addHeader("token", token);
     }
 }
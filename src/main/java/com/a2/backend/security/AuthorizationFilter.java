@@ -1,12 +1,8 @@
 package com.a2.backend.security;
 
 import static com.a2.backend.constants.SecurityConstants.HEADER_NAME;
-import static com.a2.backend.constants.SecurityConstants.KEY;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import java.io.IOException;
 import java.util.ArrayList;
 import javax.servlet.FilterChain;
@@ -20,8 +16,11 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 
 public class AuthorizationFilter extends BasicAuthenticationFilter {
 
-    public AuthorizationFilter(AuthenticationManager authManager) {
+    private final TokenCodec tokenCodec;
+
+    public AuthorizationFilter(AuthenticationManager authManager, TokenCodec tokenCodec) {
         super(authManager);
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -43,15 +42,11 @@ public class AuthorizationFilter extends BasicAuthenticationFilter {
     private UsernamePasswordAuthenticationToken authenticate(HttpServletRequest request) {
         String token = request.getHeader(HEADER_NAME);
         if (token != null) {
-            Jws<Claims> user =
-                    Jwts.parserBuilder()
-                            .setSigningKey(Keys.hmacShaKeyFor(KEY.getBytes()))
-                            .build()
-                            .parseClaimsJws(token);
+            Claims user = tokenCodec.decode(token);
 
             if (user != null) {
                 return new UsernamePasswordAuthenticationToken(
-                        user.getBody().getSubject(), null, new ArrayList<>());
+                        user.getSubject(), null, new ArrayList<>());
             } else {
 
                 return null;
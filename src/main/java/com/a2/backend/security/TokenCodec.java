@@ -0,0 +1,60 @@
+package com.a2.backend.security;
+
+import static com.a2.backend.constants.SecurityConstants.EXPIRATION_TIME;
+import static com.a2.backend.constants.SecurityConstants.KEY;
+
+import com.a2.backend.utils.ExpiringLruCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues and verifies the JWT sent in the authorization header. The signing key and parser are
+ * built once and shared, and verified tokens are remembered until they expire so repeated requests
+ * with the same token skip signature verification.
+ */
+@Component
+public class TokenCodec {
+
+    private static final int VERIFIED_TOKENS_CACHE_SIZE = 4096;
+
+    private final Key key = Keys.hmacShaKeyFor(KEY.getBytes());
+
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    private final ExpiringLruCache<String, Claims> verifiedTokens =
+            new ExpiringLruCache<>(VERIFIED_TOKENS_CACHE_SIZE, Duration.ofMillis(EXPIRATION_TIME));
+
+    public String encode(String subject) {
+        Date expiration = new Date(System.currentTimeMillis() + EXPIRATION_TIME);
+        return Jwts.builder()
+                .setClaims(Jwts.claims().setSubject(subject))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .setExpiration(expiration)
+                .compact();
+    }
+
+    /**
+     * Returns the claims of a token signed with our key.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired.
+     */
+    public Claims decode(String token) {
+        Optional<Claims> cachedClaims = verifiedTokens.get(token);
+        if (cachedClaims.isPresent()) {
+            return cachedClaims.get();
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims, claims.getExpiration().toInstant());
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,15 @@
+package com.a2.backend.service;
+
+import com.a2.backend.entity.Notification;
+import java.util.List;
+
+public interface MailOutboxService {
+
+    void enqueueNotificationMail(Notification notification);
+
+    void enqueueNotificationMails(List<Notification> notifications);
+
+    void discardPendingMails(String recipient);
+
+    void dispatchPendingMails();
+}
@@ -2,6 +2,8 @@ package com.a2.backend.service;
 
 import com.a2.backend.entity.User;
 import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.NotificationMailDTO;
+import java.util.List;
 
 public interface MailService {
 
@@ -10,4 +12,11 @@ public interface MailService {
     void sendForgotPasswordMail(User user);
 
     void sendNotificationMail(NotificationDTO notification);
+
+    /**
+     * Sends a single mail telling the recipient about all the given notifications, grouped by type
+     * and project. Unlike the other methods it throws when the mail cannot be sent, so the caller
+     * can retry it later.
+     */
+    void sendNotificationMail(String email, List<NotificationMailDTO> notifications);
 }
@@ -2,17 +2,38 @@ package com.a2.backend.service;
 
 import com.a2.backend.model.NotificationCreateDTO;
 import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.NotificationSummaryDTO;
+import com.a2.backend.model.NotificationSummaryResultDTO;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface NotificationService {
     NotificationDTO createNotification(NotificationCreateDTO notificationCreateDTO);
 
+    List<NotificationDTO> createNotifications(List<NotificationCreateDTO> notificationCreateDTOs);
+
     List<NotificationDTO> getNotificationsOfLoggedUser();
 
+    NotificationSummaryResultDTO getInboxOfLoggedUser(int page, int size);
+
     NotificationDTO markNotificationAsSeen(UUID id);
 
+    int markAllNotificationsAsSeen();
+
+    int markNotificationsAsSeen(List<UUID> ids);
+
+    int markNotificationsAsSeenUntil(LocalDateTime until);
+
     List<NotificationDTO> getFirstFiveNotificationsOfLoggedUser();
 
+    List<NotificationSummaryDTO> getFirstFiveNotificationSummariesOfLoggedUser();
+
+    /** Opens a stream that receives the notifications of the logged user as they are created. */
+    SseEmitter streamNotificationsOfLoggedUser();
+
+    long countUnseenNotificationsOfLoggedUser();
+
     void sendNotificationMail(NotificationDTO notification);
 }
@@ -0,0 +1,14 @@
+package com.a2.backend.service;
+
+import com.a2.backend.model.NotificationDTO;
+import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface NotificationStreamService {
+
+    SseEmitter subscribe(UUID userId);
+
+    void publish(NotificationDTO notification);
+
+    void sendHeartbeat();
+}
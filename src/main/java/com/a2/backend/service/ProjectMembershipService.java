@@ -0,0 +1,15 @@
+package com.a2.backend.service;
+
+import java.util.UUID;
+
+public interface ProjectMembershipService {
+
+    boolean isOwner(UUID projectId, UUID userId);
+
+    boolean isCollaborator(UUID projectId, UUID userId);
+
+    boolean isApplicant(UUID projectId, UUID userId);
+
+    /** Owners and collaborators are the members allowed to take part in a project's forum. */
+    boolean isMember(UUID projectId, UUID userId);
+}
@@ -12,6 +12,8 @@ public interface ProjectService {
 
     List<ProjectDTO> getAllProjects();
 
+    SearchResultDTO getProjectsSlice(String cursor, Integer size);
+
     ProjectDTO updateProject(ProjectUpdateDTO updateProject, UUID projectToBeUpdatedID);
 
     void deleteProject(UUID uuid);
@@ -24,6 +26,16 @@ public interface ProjectService {
 
     SearchResultDTO searchProjectsByFilter(ProjectSearchDTO projectSearchDTO);
 
+    List<ProjectSummaryDTO> getAllProjectSummaries();
+
+    ProjectSummaryResultDTO getProjectSummariesSlice(String cursor, Integer size);
+
+    List<ProjectSummaryDTO> getFeaturedProjectSummaries();
+
+    List<ProjectSummaryDTO> getMyProjectSummaries();
+
+    ProjectSummaryResultDTO searchProjectSummariesByFilter(ProjectSearchDTO projectSearchDTO);
+
     List<ProjectDTO> getFeaturedProject();
 
     List<ProjectDTO> getMyProjects();
@@ -42,5 +54,5 @@ public interface ProjectService {
 
     ReviewDTO createReview(UUID id, ReviewCreateDTO reviewCreateDTO);
 
-    List<ReviewDTO> getUserReviews(UUID projectId, UUID userId);
+    ReviewResultDTO getUserReviews(UUID projectId, UUID userId, int page, int size);
 }
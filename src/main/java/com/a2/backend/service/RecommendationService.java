@@ -0,0 +1,13 @@
+package com.a2.backend.service;
+
+import com.a2.backend.model.ProjectDTO;
+import java.util.Collection;
+import java.util.List;
+
+public interface RecommendationService {
+
+    List<ProjectDTO> getRecommendedProjects(
+            Collection<String> preferredTags, Collection<String> preferredLanguages);
+
+    void rebuildIndex();
+}
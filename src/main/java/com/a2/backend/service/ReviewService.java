@@ -2,8 +2,14 @@ package com.a2.backend.service;
 
 import com.a2.backend.entity.Review;
 import com.a2.backend.model.ReviewCreateDTO;
+import com.a2.backend.model.ReviewResultDTO;
+import java.util.UUID;
 
 public interface ReviewService {
 
     Review createReview(ReviewCreateDTO reviewCreateDTO);
+
+    ReviewResultDTO getCollaboratorReviews(UUID collaboratorId, int page, int size);
+
+    ReviewResultDTO getCollaboratorReviews(UUID projectId, UUID collaboratorId, int page, int size);
 }
@@ -0,0 +1,10 @@
+package com.a2.backend.service;
+
+import com.a2.backend.model.SearchHitResultDTO;
+
+public interface SearchService {
+
+    SearchHitResultDTO search(String query, int page, int size);
+
+    void rebuildIndex();
+}
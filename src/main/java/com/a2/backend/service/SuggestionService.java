@@ -0,0 +1,14 @@
+package com.a2.backend.service;
+
+import java.util.List;
+
+public interface SuggestionService {
+
+    List<String> suggestTags(String prefix, int limit);
+
+    List<String> suggestLanguages(String prefix, int limit);
+
+    List<String> suggestForumTags(String prefix, int limit);
+
+    void rebuildIndex();
+}
@@ -1,7 +1,10 @@
 package com.a2.backend.service;
 
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.Review;
 import com.a2.backend.entity.User;
 import com.a2.backend.model.*;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,11 +35,17 @@ public interface UserService {
 
     UserProfileDTO getUserProfile(UUID id);
 
+    void invalidateProfiles(Collection<UUID> userIds);
+
     User getUser(UUID id);
 
     User updateReputation(UUID id);
 
-    List<ReviewDTO> getUserReviews(UUID id);
+    User recordReview(Project project, Review review);
+
+    void discardReputationScores(Collection<UUID> projectIds);
+
+    ReviewResultDTO getUserReviews(UUID id, int page, int size);
 
     boolean switchEmailNotificationPreferences(
             NotificationUpdatePreferencDTO notificationUpdatePreferencDTO);
@@ -0,0 +1,6 @@
+package com.a2.backend.service;
+
+public interface VocabularyCleanupService {
+
+    void sweepUnused();
+}
@@ -4,7 +4,9 @@ import com.a2.backend.constants.NotificationType;
 import com.a2.backend.entity.Comment;
 import com.a2.backend.entity.Discussion;
 import com.a2.backend.entity.ForumTag;
+import com.a2.backend.entity.Project;
 import com.a2.backend.entity.User;
+import com.a2.backend.event.DiscussionChangedEvent;
 import com.a2.backend.exception.*;
 import com.a2.backend.model.*;
 import com.a2.backend.repository.CommentRepository;
@@ -16,6 +18,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -30,6 +33,8 @@ public class DiscussionServiceImpl implements DiscussionService {
     private final UserService userService;
     private final CommentService commentService;
     private final NotificationService notificationService;
+    private final ProjectMembershipService projectMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DiscussionServiceImpl(
             ProjectRepository projectRepository,
@@ -39,7 +44,9 @@ public class DiscussionServiceImpl implements DiscussionService {
             ForumTagService forumTagService,
             UserService userService,
             CommentService commentService,
-            NotificationService notificationService) {
+            NotificationService notificationService,
+            ProjectMembershipService projectMembershipService,
+            ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.notificationRepository = notificationRepository;
         this.forumTagService = forumTagService;
@@ -48,21 +55,22 @@ public class DiscussionServiceImpl implements DiscussionService {
         this.discussionRepository = discussionRepository;
         this.commentService = commentService;
         this.notificationService = notificationService;
+        this.projectMembershipService = projectMembershipService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public DiscussionDTO createDiscussion(UUID projectId, DiscussionCreateDTO discussionCreateDTO) {
         User loggedUser = userService.getLoggedUser();
-        val project = projectRepository.findById(projectId);
-        if (project.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             throw new ProjectNotFoundException("Project not found with that ID");
         }
-        if (!project.get().getCollaborators().contains(loggedUser)
-                && !project.get().getOwner().getId().equals(loggedUser.getId())) {
+        if (!projectMembershipService.isMember(projectId, loggedUser.getId())) {
             throw new UserIsNotCollaboratorNorOwnerException(
                     "User must be collaborator or owner to create a discussion");
         }
+        val project = projectRepository.findWithMembersById(projectId);
 
         val existingDiscussionWithTitleInProject =
                 discussionRepository.findByProjectIdAndTitle(
@@ -72,7 +80,7 @@ public class DiscussionServiceImpl implements DiscussionService {
             Discussion discussion =
                     Discussion.builder()
                             .title(discussionCreateDTO.getTitle())
-                            .project(projectRepository.findById(projectId).get())
+                            .project(project.get())
                             .forumTags(tags)
                             .comments(List.of())
                             .body(discussionCreateDTO.getBody())
@@ -84,22 +92,25 @@ public class DiscussionServiceImpl implements DiscussionService {
             project.get().setDiscussions(discussions);
             Discussion createdDiscussion = discussionRepository.save(discussion);
             projectRepository.save(project.get());
+            eventPublisher.publishEvent(DiscussionChangedEvent.saved(createdDiscussion));
+            invalidateMemberProfiles(project.get());
 
             List<User> toNotify = new ArrayList<>(project.get().getCollaborators());
             toNotify.remove(loggedUser);
             if (loggedUser != project.get().getOwner()) toNotify.add(project.get().getOwner());
             if (!toNotify.isEmpty()) {
+                List<NotificationCreateDTO> notificationCreateDTOs = new ArrayList<>();
                 for (User userToNotify : toNotify) {
-                    NotificationCreateDTO notificationCreateDTO =
+                    notificationCreateDTOs.add(
                             NotificationCreateDTO.builder()
                                     .type(NotificationType.DISCUSSION)
                                     .discussion(discussion)
                                     .project(project.get())
                                     .user(loggedUser)
                                     .userToNotify(userToNotify)
-                                    .build();
-                    notificationService.createNotification(notificationCreateDTO);
+                                    .build());
                 }
+                notificationService.createNotifications(notificationCreateDTOs);
             }
             return createdDiscussion.toDTO();
         }
@@ -113,7 +124,7 @@ public class DiscussionServiceImpl implements DiscussionService {
     @Override
     public CommentDTO createComment(UUID discussionId, CommentCreateDTO commentCreateDTO) {
         User loggedUser = userService.getLoggedUser();
-        val discussionOptional = discussionRepository.findById(discussionId);
+        val discussionOptional = discussionRepository.findDetailById(discussionId);
 
         if (discussionOptional.isEmpty()) {
             throw new DiscussionNotFoundException(
@@ -123,8 +134,7 @@ public class DiscussionServiceImpl implements DiscussionService {
         val discussion = discussionOptional.get();
         val project = discussion.getProject();
 
-        if (!project.getOwner().equals(loggedUser)
-                && !project.getCollaborators().contains(loggedUser)) {
+        if (!projectMembershipService.isMember(project.getId(), loggedUser.getId())) {
             throw new InvalidUserException(
                     "Only project owners and collaborators can submit comments");
         }
@@ -135,6 +145,7 @@ public class DiscussionServiceImpl implements DiscussionService {
 
         discussion.setComments(comments);
         discussionRepository.save(discussion);
+        invalidateMemberProfiles(project);
 
         List<User> toNotify = new ArrayList<>();
         if (loggedUser != project.getOwner()) toNotify.add(project.getOwner());
@@ -142,8 +153,9 @@ public class DiscussionServiceImpl implements DiscussionService {
             toNotify.add(discussion.getOwner());
 
         if (!toNotify.isEmpty()) {
+            List<NotificationCreateDTO> notificationCreateDTOs = new ArrayList<>();
             for (User userToNotify : toNotify) {
-                NotificationCreateDTO notificationCreateDTO =
+                notificationCreateDTOs.add(
                         NotificationCreateDTO.builder()
                                 .type(NotificationType.COMMENT)
                                 .comment(
@@ -154,9 +166,9 @@ public class DiscussionServiceImpl implements DiscussionService {
                                 .project(project)
                                 .user(loggedUser)
                                 .userToNotify(userToNotify)
-                                .build();
-                notificationService.createNotification(notificationCreateDTO);
+                                .build());
             }
+            notificationService.createNotifications(notificationCreateDTOs);
         }
 
         return comment.toDTO();
@@ -166,7 +178,7 @@ public class DiscussionServiceImpl implements DiscussionService {
             UUID discussionID, DiscussionUpdateDTO discussionUpdateDTO) {
         User loggedUser = userService.getLoggedUser();
 
-        val discussionToModifyOptional = discussionRepository.findById(discussionID);
+        val discussionToModifyOptional = discussionRepository.findDetailById(discussionID);
         if (discussionToModifyOptional.isEmpty()) {
             throw new DiscussionNotFoundException(
                     String.format("Discussion with id %s does not exist!", discussionID));
@@ -199,6 +211,8 @@ public class DiscussionServiceImpl implements DiscussionService {
         discussion.setBody(discussionUpdateDTO.getBody());
         discussion.setForumTags(forumTagService.createTag(discussionUpdateDTO.getForumTags()));
         Discussion updatedDiscussion = discussionRepository.save(discussion);
+        eventPublisher.publishEvent(DiscussionChangedEvent.saved(updatedDiscussion));
+        invalidateMemberProfiles(updatedDiscussion.getProject());
         forumTagService.deleteUnusedTags(removedForumTags);
         return updatedDiscussion.toDTO();
     }
@@ -233,6 +247,8 @@ public class DiscussionServiceImpl implements DiscussionService {
         }
         discussionToDelete.get().setActive(false);
         discussionRepository.save(discussionToDelete.get());
+        eventPublisher.publishEvent(DiscussionChangedEvent.closed(discussionToDelete.get()));
+        invalidateMemberProfiles(project.get());
     }
 
     @Override
@@ -258,6 +274,7 @@ public class DiscussionServiceImpl implements DiscussionService {
 
         discussion.setComments(comments);
         discussionRepository.save(discussion);
+        invalidateMemberProfiles(discussion.getProject());
 
         return updatedComment.toDTO();
     }
@@ -285,6 +302,7 @@ public class DiscussionServiceImpl implements DiscussionService {
 
         discussion.setComments(comments);
         discussionRepository.save(discussion);
+        invalidateMemberProfiles(discussion.getProject());
 
         return updatedComment.toDTO();
     }
@@ -292,7 +310,7 @@ public class DiscussionServiceImpl implements DiscussionService {
     @Override
     public List<CommentDTO> getComments(UUID discussionId) {
         User loggedUser = userService.getLoggedUser();
-        val discussionOptional = discussionRepository.findById(discussionId);
+        val discussionOptional = discussionRepository.findDetailById(discussionId);
 
         if (discussionOptional.isEmpty()) {
             throw new DiscussionNotFoundException(
@@ -345,6 +363,7 @@ public class DiscussionServiceImpl implements DiscussionService {
 
         Comment comment = commentService.deleteComment(id);
         discussionRepository.save(discussion);
+        invalidateMemberProfiles(discussion.getProject());
     }
 
     @Override
@@ -364,7 +383,16 @@ public class DiscussionServiceImpl implements DiscussionService {
 
         discussion.setComments(comments);
         discussionRepository.save(discussion);
+        invalidateMemberProfiles(discussion.getProject());
 
         return updatedComment.toDTO();
     }
+
+    /** Cached profiles embed the active discussions of their projects, with their comments. */
+    private void invalidateMemberProfiles(Project project) {
+        List<UUID> memberIds =
+                project.getCollaborators().stream().map(User::getId).collect(Collectors.toList());
+        memberIds.add(project.getOwner().getId());
+        userService.invalidateProfiles(memberIds);
+    }
 }
@@ -1,13 +1,24 @@
 package com.a2.backend.service.impl;
 
+import com.a2.backend.constants.VocabularyType;
 import com.a2.backend.entity.ForumTag;
-import com.a2.backend.repository.DiscussionRepository;
+import com.a2.backend.event.VocabularyReleasedEvent;
+import com.a2.backend.exception.VocabularyConflictException;
 import com.a2.backend.repository.ForumTagRepository;
 import com.a2.backend.service.ForumTagService;
+import com.a2.backend.utils.VocabularyInserter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,22 +26,39 @@ public class ForumTagServiceImpl implements ForumTagService {
 
     private final ForumTagRepository forumTagRepository;
 
-    private final DiscussionRepository discussionRepository;
+    private final VocabularyInserter vocabularyInserter;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     public ForumTagServiceImpl(
-            ForumTagRepository forumTagRepository, DiscussionRepository discussionRepository) {
+            ForumTagRepository forumTagRepository,
+            VocabularyInserter vocabularyInserter,
+            ApplicationEventPublisher eventPublisher) {
         this.forumTagRepository = forumTagRepository;
-        this.discussionRepository = discussionRepository;
+        this.vocabularyInserter = vocabularyInserter;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Reuses the forum tags that already exist, read in one query, and inserts the missing ones in
+     * a single batch, in a transaction of their own so a tag created concurrently is reused.
+     */
     @Override
     public List<ForumTag> createTag(List<String> forumTagsToAdd) {
-        List<ForumTag> tagList = new ArrayList<>();
+        Map<String, ForumTag> tagsByName = findTagsByName(forumTagsToAdd);
 
-        for (String tagName : forumTagsToAdd) {
-            tagList.add(createTag(tagName));
+        Set<String> missingNames = new LinkedHashSet<>(forumTagsToAdd);
+        missingNames.removeAll(tagsByName.keySet());
+        if (!missingNames.isEmpty()) {
+            vocabularyInserter.insertMissing(forumTagRepository, missingNames, this::createTag);
+            tagsByName.putAll(findTagsByName(missingNames));
+            if (!tagsByName.keySet().containsAll(missingNames)) {
+                throw new VocabularyConflictException(
+                        "Some forum tags were deleted while being saved, try again");
+            }
         }
-        return tagList;
+
+        return forumTagsToAdd.stream().map(tagsByName::get).collect(Collectors.toList());
     }
 
     @Override
@@ -45,13 +73,21 @@ public class ForumTagServiceImpl implements ForumTagService {
 
     @Override
     public List<ForumTag> findTagsByNames(List<String> forumTagsToFind) {
-        List<ForumTag> tagsFound = new ArrayList<>();
+        Map<String, ForumTag> tagsByName = findTagsByName(forumTagsToFind);
+        return forumTagsToFind.stream()
+                .map(tagsByName::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        for (String tagName : forumTagsToFind) {
-            Optional<ForumTag> optionalForumTag = findTagByName(tagName);
-            optionalForumTag.ifPresent(tagsFound::add);
+    private Map<String, ForumTag> findTagsByName(Collection<String> tagNames) {
+        Map<String, ForumTag> tagsByName = new HashMap<>();
+        if (!tagNames.isEmpty()) {
+            forumTagRepository
+                    .findByNameIn(new HashSet<>(tagNames))
+                    .forEach(tag -> tagsByName.putIfAbsent(tag.getName(), tag));
         }
-        return tagsFound;
+        return tagsByName;
     }
 
     @Override
@@ -68,13 +104,11 @@ public class ForumTagServiceImpl implements ForumTagService {
 
     @Override
     public void deleteUnusedTags(List<ForumTag> removedTags) {
-        for (ForumTag ForumTag : removedTags) {
-            if (discussionRepository
-                    .findDiscussionsByTagName(ForumTag.getName().toUpperCase(Locale.ROOT))
-                    .isEmpty()) {
-                forumTagRepository.deleteById(ForumTag.getId());
-            }
-        }
+        // Forum tags are shared, so the cleanup checks both discussions and projects
+        eventPublisher.publishEvent(
+                new VocabularyReleasedEvent(
+                        VocabularyType.FORUM_TAG,
+                        removedTags.stream().map(ForumTag::getId).collect(Collectors.toList())));
     }
 
     @Override
@@ -1,11 +1,17 @@
 package com.a2.backend.service.impl;
 
+import com.a2.backend.constants.VocabularyType;
 import com.a2.backend.entity.Language;
+import com.a2.backend.event.VocabularyReleasedEvent;
 import com.a2.backend.exception.LanguageNotValidException;
+import com.a2.backend.exception.VocabularyConflictException;
 import com.a2.backend.repository.LanguageRepository;
-import com.a2.backend.repository.ProjectRepository;
 import com.a2.backend.service.LanguageService;
+import com.a2.backend.utils.LanguageCatalog;
+import com.a2.backend.utils.VocabularyInserter;
 import java.util.*;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,39 +19,68 @@ public class LanguageServiceImpl implements LanguageService {
 
     private final LanguageRepository languageRepository;
 
-    private final ProjectRepository projectRepository;
+    private final LanguageCatalog languageCatalog;
 
-    private final String validLanguageNames =
-            "Java, C, C++, C#, Python, Visual Basic .NET, PHP, JavaScript, TypeScript, Delphi/Object Pascal, Swift, Perl, Ruby, Assembly language, R, Visual Basic, Objective-C, Go, MATLAB, PL/SQL, Scratch, SAS, D, Dart, ABAP, COBOL, Ada, Fortran, Transact-SQL, Lua, Scala, Logo, F#, Lisp, LabVIEW, Prolog, Haskell, Scheme, Groovy, RPG (OS/400), Apex, Erlang, MQL4, Rust, Bash, Ladder Logic, Q, Julia, Alice, VHDL, Awk, (Visual) FoxPro, ABC, ActionScript, APL, AutoLISP, bc, BlitzMax, Bourne shell, C shell, CFML, cg, CL (OS/400), Clipper, Clojure, Common Lisp, Crystal, Eiffel, Elixir, Elm, Emacs Lisp, Forth, Hack, Icon, IDL, Inform, Io, J, Korn shell, Kotlin, Maple, ML, NATURAL, NXT-G, OCaml, OpenCL, OpenEdge ABL, Oz, PL/I, PowerShell, REXX, Ring, S, Smalltalk, SPARK, SPSS, Standard ML, Stata, Tcl, VBScript, Verilog";
+    private final VocabularyInserter vocabularyInserter;
 
-    private final List<String> validLanguageList =
-            new ArrayList<>(Arrays.asList(validLanguageNames.split(", ")));
+    private final ApplicationEventPublisher eventPublisher;
 
     public LanguageServiceImpl(
-            LanguageRepository languageRepository, ProjectRepository projectRepository) {
+            LanguageRepository languageRepository,
+            LanguageCatalog languageCatalog,
+            VocabularyInserter vocabularyInserter,
+            ApplicationEventPublisher eventPublisher) {
         this.languageRepository = languageRepository;
-        this.projectRepository = projectRepository;
+        this.languageCatalog = languageCatalog;
+        this.vocabularyInserter = vocabularyInserter;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Reads every existing language in one query and inserts the missing ones in a single batch, in
+     * a transaction of their own so a language created concurrently is reused. Names that are not
+     * stored yet must be in the catalog, and are stored with the catalog spelling so "python" and
+     * "Python" end up as one language.
+     */
     @Override
     public List<Language> findOrCreateLanguage(List<String> languagesToAdd) {
-        List<Language> languageList = new ArrayList<>();
-
+        Set<String> namesToFind = new HashSet<>(languagesToAdd);
+        languagesToAdd.forEach(
+                languageName ->
+                        languageCatalog.canonicalName(languageName).ifPresent(namesToFind::add));
+        Map<String, Language> languagesByName = findLanguagesByName(namesToFind);
+
+        List<String> storedNames = new ArrayList<>();
+        Set<String> missingNames = new LinkedHashSet<>();
         for (String languageName : languagesToAdd) {
-            Optional<Language> optionalLanguage = findLanguageByName(languageName);
-
-            if (optionalLanguage.isEmpty()) {
-                if (validLanguageList.contains(languageName)) {
-                    languageList.add(createLanguage(languageName));
-                } else {
-                    throw new LanguageNotValidException(
-                            String.format("Language %s is not valid", languageName));
-                }
-            } else {
-                languageList.add(optionalLanguage.get());
+            if (languagesByName.containsKey(languageName)) {
+                storedNames.add(languageName);
+                continue;
+            }
+            String canonicalName =
+                    languageCatalog
+                            .canonicalName(languageName)
+                            .orElseThrow(
+                                    () ->
+                                            new LanguageNotValidException(
+                                                    String.format(
+                                                            "Language %s is not valid",
+                                                            languageName)));
+            if (!languagesByName.containsKey(canonicalName)) {
+                missingNames.add(canonicalName);
+            }
+            storedNames.add(canonicalName);
+        }
+        if (!missingNames.isEmpty()) {
+            vocabularyInserter.insertMissing(
+                    languageRepository, missingNames, this::createLanguage);
+            languagesByName.putAll(findLanguagesByName(missingNames));
+            if (!languagesByName.keySet().containsAll(missingNames)) {
+                throw new VocabularyConflictException(
+                        "Some languages were deleted while being saved, try again");
             }
         }
-        return languageList;
+        return storedNames.stream().map(languagesByName::get).collect(Collectors.toList());
     }
 
     @Override
@@ -60,13 +95,21 @@ public class LanguageServiceImpl implements LanguageService {
 
     @Override
     public List<Language> findLanguagesByNames(List<String> languagesToFind) {
-        List<Language> languagesFound = new ArrayList<>();
+        Map<String, Language> languagesByName = findLanguagesByName(languagesToFind);
+        return languagesToFind.stream()
+                .map(languagesByName::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        for (String languageName : languagesToFind) {
-            Optional<Language> optionalLanguage = findLanguageByName(languageName);
-            optionalLanguage.ifPresent(languagesFound::add);
+    private Map<String, Language> findLanguagesByName(Collection<String> languageNames) {
+        Map<String, Language> languagesByName = new HashMap<>();
+        if (!languageNames.isEmpty()) {
+            languageRepository
+                    .findByNameIn(new HashSet<>(languageNames))
+                    .forEach(language -> languagesByName.putIfAbsent(language.getName(), language));
         }
-        return languagesFound;
+        return languagesByName;
     }
 
     @Override
@@ -84,13 +127,12 @@ public class LanguageServiceImpl implements LanguageService {
 
     @Override
     public void deleteUnusedLanguages(List<Language> removedLanguages) {
-        for (Language language : removedLanguages) {
-            if (projectRepository
-                    .findProjectsByLanguageName(language.getName().toUpperCase(Locale.ROOT))
-                    .isEmpty()) {
-                languageRepository.deleteById(language.getId());
-            }
-        }
+        eventPublisher.publishEvent(
+                new VocabularyReleasedEvent(
+                        VocabularyType.LANGUAGE,
+                        removedLanguages.stream()
+                                .map(Language::getId)
+                                .collect(Collectors.toList())));
     }
 
     @Override
@@ -100,6 +142,6 @@ public class LanguageServiceImpl implements LanguageService {
 
     @Override
     public List<String> getValidLanguages() {
-        return validLanguageList;
+        return languageCatalog.getNames();
     }
 }
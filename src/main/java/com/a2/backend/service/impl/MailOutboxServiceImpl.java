@@ -0,0 +1,220 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.constants.DigestInterval;
+import com.a2.backend.constants.OutboxMailStatus;
+import com.a2.backend.entity.Notification;
+import com.a2.backend.entity.OutboxMail;
+import com.a2.backend.entity.User;
+import com.a2.backend.model.NotificationMailDTO;
+import com.a2.backend.repository.OutboxMailRepository;
+import com.a2.backend.service.MailOutboxService;
+import com.a2.backend.service.MailService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    static final int MAX_ATTEMPTS = 5;
+    static final Duration LEASE = Duration.ofMinutes(5);
+    static final Duration FIRST_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final Logger logger = LoggerFactory.getLogger(MailOutboxServiceImpl.class);
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final MailService mailService;
+    private final TaskExecutor mailOutboxExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // Recipients that already have a worker queued or running
+    private final Set<String> recipientsInFlight = ConcurrentHashMap.newKeySet();
+
+    public MailOutboxServiceImpl(
+            OutboxMailRepository outboxMailRepository,
+            MailService mailService,
+            @Qualifier("mailOutboxExecutor") TaskExecutor mailOutboxExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${mail.outbox.batch-size:50}") int batchSize) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.mailService = mailService;
+        this.mailOutboxExecutor = mailOutboxExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Users on a digest interval get the mail held for the whole window. When the oldest held mail
+     * becomes due the dispatcher sends every pending mail of the user in a single digest.
+     */
+    @Override
+    public void enqueueNotificationMail(Notification notification) {
+        enqueueNotificationMails(List.of(notification));
+    }
+
+    @Override
+    public void enqueueNotificationMails(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxMailRepository.saveAll(
+                notifications.stream()
+                        .map(notification -> toOutboxMail(notification, now))
+                        .collect(Collectors.toList()));
+    }
+
+    private static OutboxMail toOutboxMail(Notification notification, LocalDateTime now) {
+        User userToNotify = notification.getUserToNotify();
+        DigestInterval digestInterval =
+                userToNotify.getDigestInterval() != null
+                        ? userToNotify.getDigestInterval()
+                        : DigestInterval.IMMEDIATE;
+        return OutboxMail.builder()
+                .recipient(userToNotify.getEmail())
+                .type(notification.getType())
+                .projectTitle(
+                        notification.getProject() != null
+                                ? notification.getProject().getTitle()
+                                : null)
+                .nextAttemptAt(now.plus(digestInterval.getWindow()))
+                .createdAt(now)
+                .build();
+    }
+
+    /** Mails being delivered right now are still sent. */
+    @Override
+    public void discardPendingMails(String recipient) {
+        transactionTemplate.execute(
+                status ->
+                        outboxMailRepository.deleteUnclaimed(
+                                recipient, OutboxMailStatus.PENDING, LocalDateTime.now()));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-delay:5000}")
+    public void dispatchPendingMails() {
+        List<String> recipients =
+                outboxMailRepository.findRecipientsWithDueMails(
+                        OutboxMailStatus.PENDING,
+                        LocalDateTime.now(),
+                        PageRequest.of(0, batchSize));
+        for (String recipient : recipients) {
+            if (!recipientsInFlight.add(recipient)) {
+                continue;
+            }
+            try {
+                mailOutboxExecutor.execute(() -> deliverTo(recipient));
+            } catch (TaskRejectedException e) {
+                // Queue is full, whatever is left stays due for the next run
+                recipientsInFlight.remove(recipient);
+                return;
+            }
+        }
+    }
+
+    /** Sends every pending mail of a recipient as a single message. */
+    private void deliverTo(String recipient) {
+        try {
+            List<OutboxMail> mails = claimDueMails(recipient);
+            if (mails.isEmpty()) {
+                return;
+            }
+            List<NotificationMailDTO> notifications =
+                    mails.stream()
+                            .map(
+                                    mail ->
+                                            NotificationMailDTO.builder()
+                                                    .type(mail.getType())
+                                                    .projectTitle(mail.getProjectTitle())
+                                                    .build())
+                            .collect(Collectors.toList());
+            try {
+                mailService.sendNotificationMail(recipient, notifications);
+            } catch (RuntimeException e) {
+                logger.warn("Could not send notification mail to {}", recipient, e);
+                saveResult(mails, false);
+                return;
+            }
+            saveResult(mails, true);
+        } finally {
+            recipientsInFlight.remove(recipient);
+        }
+    }
+
+    private List<OutboxMail> claimDueMails(String recipient) {
+        UUID claim = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(
+                status -> {
+                    int claimed =
+                            outboxMailRepository.claimDueMails(
+                                    claim,
+                                    now.plus(LEASE),
+                                    recipient,
+                                    OutboxMailStatus.PENDING,
+                                    now);
+                    if (claimed == 0) {
+                        return Collections.<OutboxMail>emptyList();
+                    }
+                    return outboxMailRepository.findByClaimOrderByCreatedAt(claim);
+                });
+    }
+
+    private void saveResult(List<OutboxMail> mails, boolean sent) {
+        LocalDateTime now = LocalDateTime.now();
+        int released =
+                transactionTemplate.execute(
+                        status -> {
+                            int count = 0;
+                            for (OutboxMail mail : mails) {
+                                int attempts = mail.getAttempts() + 1;
+                                OutboxMailStatus mailStatus = OutboxMailStatus.PENDING;
+                                LocalDateTime nextAttemptAt = mail.getNextAttemptAt();
+                                if (sent) {
+                                    mailStatus = OutboxMailStatus.SENT;
+                                } else if (attempts >= MAX_ATTEMPTS) {
+                                    mailStatus = OutboxMailStatus.FAILED;
+                                } else {
+                                    nextAttemptAt = now.plus(retryDelay(attempts));
+                                }
+                                count +=
+                                        outboxMailRepository.release(
+                                                mail.getId(),
+                                                mail.getClaim(),
+                                                mailStatus,
+                                                attempts,
+                                                nextAttemptAt);
+                            }
+                            return count;
+                        });
+        if (released < mails.size()) {
+            logger.warn(
+                    "Lease ran out on {} mails to {}, another worker took them over",
+                    mails.size() - released,
+                    mails.get(0).getRecipient());
+        }
+    }
+
+    /** Doubles the wait after every failed attempt. */
+    static Duration retryDelay(int attempts) {
+        return FIRST_RETRY_DELAY.multipliedBy(1L << (attempts - 1));
+    }
+}
@@ -1,86 +1,176 @@
 package com.a2.backend.service.impl;
 
+import com.a2.backend.constants.NotificationType;
 import com.a2.backend.entity.User;
 import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.NotificationMailDTO;
 import com.a2.backend.service.MailService;
-import java.io.File;
+import com.a2.backend.utils.MailTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 import org.springframework.context.annotation.Profile;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
 @Service
 @Profile("local")
 public class MailServiceImpl implements MailService {
 
-    private JavaMailSender emailsender;
+    private static final String FROM = "projectlab2avengerinitiative@gmail.com";
+    private static final String NOTIFICATION_SUBJECT = "New Notification";
+
+    private static final MailTemplate CONFIRMATION =
+            MailTemplate.of(
+                    "Account confirmation",
+                    "Hello in order to confirm your account go to this link:"
+                            + "<br>"
+                            + "<br>"
+                            + "http://localhost:3000/verify/{}/{}"
+                            + "<br>"
+                            + "<br>");
+
+    private static final MailTemplate PASSWORD_RECOVERY =
+            MailTemplate.of(
+                    "Password Recovery",
+                    "Hello in order to change your password please follow this link: "
+                            + "<br>"
+                            + "<br>"
+                            + "http://localhost:3000/forgot-password/{}/{}"
+                            + "<br>"
+                            + "<br>");
+
+    private static final MailTemplate NOTIFICATIONS =
+            MailTemplate.of(
+                    "New Notifications", "You have {} new notifications:" + "<ul>{}</ul>" + "<br>");
+
+    // Single notification mails have no variable parts, so they are rendered up front
+    private static final Map<NotificationType, String> NOTIFICATION_HTML =
+            new EnumMap<>(NotificationType.class);
+
+    static {
+        MailTemplate notification =
+                MailTemplate.of(NOTIFICATION_SUBJECT, "You have a new {} notification!<br><br>");
+        for (NotificationType type : NotificationType.values()) {
+            NOTIFICATION_HTML.put(type, notification.render(type));
+        }
+    }
+
+    private final JavaMailSender emailsender;
+    private final ByteArrayResource header;
 
     public MailServiceImpl(JavaMailSender emailsender) {
         this.emailsender = emailsender;
+        this.header = new ByteArrayResource(readHeader());
+    }
+
+    private static byte[] readHeader() {
+        try (InputStream inputStream = new ClassPathResource("header.png").getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load the mail header image", e);
+        }
     }
 
     @Override
     public void sendConfirmationMail(User user) {
-        String body =
-                "Hello in order to confirm your account go to this link:"
-                        + "<br>"
-                        + "<br>"
-                        + "http://localhost:3000/verify/"
-                        + user.getId()
-                        + '/'
-                        + user.getConfirmationToken()
-                        + "<br>"
-                        + "<br>";
-        this.sendEmail(user.getEmail(), "Account confirmation", body);
+        this.sendEmail(
+                user.getEmail(),
+                CONFIRMATION.getSubject(),
+                CONFIRMATION.render(user.getId(), user.getConfirmationToken()));
     }
 
     @Override
     public void sendForgotPasswordMail(User user) {
-        String body =
-                "Hello in order to change your password please follow this link: "
-                        + "<br>"
-                        + "<br>"
-                        + "http://localhost:3000/forgot-password/"
-                        + user.getId()
-                        + '/'
-                        + user.getConfirmationToken()
-                        + "<br>"
-                        + "<br>";
-        this.sendEmail(user.getEmail(), "Password Recovery", body);
+        this.sendEmail(
+                user.getEmail(),
+                PASSWORD_RECOVERY.getSubject(),
+                PASSWORD_RECOVERY.render(user.getId(), user.getConfirmationToken()));
     }
 
     @Override
     public void sendNotificationMail(NotificationDTO notification) {
-        String body =
-                "You have a new " + notification.getType() + " notification!" + "<br>" + "<br>";
-        this.sendEmail(notification.getUserToNotify().getEmail(), "New Notification", body);
+        this.sendEmail(
+                notification.getUserToNotify().getEmail(),
+                NOTIFICATION_SUBJECT,
+                NOTIFICATION_HTML.get(notification.getType()));
     }
 
-    private void sendEmail(String mailTO, String subject, String content) {
-        try {
-            MimeMessage mimeMessage = emailsender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
-            FileSystemResource res =
-                    new FileSystemResource(new File("src/main/resources/header.png"));
-            String htmlMsg =
-                    "<img src= 'cid:id1' height= 50 width= auto> <br> <h2>"
-                            + subject
-                            + "</h2>"
-                            + "<p>"
-                            + content
-                            + "Best regards,<br>A2</p>";
-            helper.setText(htmlMsg, true);
-            helper.addInline("id1", res);
-            helper.setTo(mailTO);
-            helper.setSubject(subject);
-            helper.setFrom("projectlab2avengerinitiative@gmail.com");
-            emailsender.send(mimeMessage);
+    @Override
+    public void sendNotificationMail(String email, List<NotificationMailDTO> notifications) {
+        if (notifications.size() == 1) {
+            this.sendEmailOrThrow(
+                    email,
+                    NOTIFICATION_SUBJECT,
+                    NOTIFICATION_HTML.get(notifications.get(0).getType()));
+            return;
+        }
+        this.sendEmailOrThrow(
+                email,
+                NOTIFICATIONS.getSubject(),
+                NOTIFICATIONS.render(notifications.size(), digestItems(notifications)));
+    }
 
+    /** One list item per notification type and project, with how many notifications it had. */
+    private static StringBuilder digestItems(List<NotificationMailDTO> notifications) {
+        Map<NotificationType, Map<String, Integer>> amounts = new EnumMap<>(NotificationType.class);
+        for (NotificationMailDTO notification : notifications) {
+            amounts.computeIfAbsent(notification.getType(), type -> new LinkedHashMap<>())
+                    .merge(notification.getProjectTitle(), 1, Integer::sum);
+        }
+        StringBuilder items = new StringBuilder();
+        amounts.forEach(
+                (type, amountsByProject) ->
+                        amountsByProject.forEach(
+                                (projectTitle, amount) -> {
+                                    items.append("<li>").append(amount).append(' ').append(type);
+                                    items.append(amount == 1 ? " notification" : " notifications");
+                                    if (projectTitle != null) {
+                                        // Titles are user input
+                                        items.append(" on ")
+                                                .append(HtmlUtils.htmlEscape(projectTitle));
+                                    }
+                                    items.append("</li>");
+                                }));
+        return items;
+    }
+
+    private void sendEmail(String mailTO, String subject, String html) {
+        try {
+            emailsender.send(createEmail(mailTO, subject, html));
         } catch (MessagingException e) {
             e.printStackTrace();
         }
     }
+
+    private void sendEmailOrThrow(String mailTO, String subject, String html) {
+        try {
+            emailsender.send(createEmail(mailTO, subject, html));
+        } catch (MessagingException e) {
+            throw new MailPreparationException(e);
+        }
+    }
+
+    private MimeMessage createEmail(String mailTO, String subject, String html)
+            throws MessagingException {
+        MimeMessage mimeMessage = emailsender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
+        helper.setText(html, true);
+        helper.addInline(MailTemplate.HEADER_CONTENT_ID, header, "image/png");
+        helper.setTo(mailTO);
+        helper.setSubject(subject);
+        helper.setFrom(FROM);
+        return mimeMessage;
+    }
 }
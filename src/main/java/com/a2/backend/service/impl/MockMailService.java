@@ -2,12 +2,17 @@ package com.a2.backend.service.impl;
 
 import com.a2.backend.entity.User;
 import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.NotificationMailDTO;
 import com.a2.backend.service.MailService;
+import java.util.List;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 @Service
 @Profile("test")
+// Tests activating "local" too inherit "test", and must not send real mails
+@Primary
 public class MockMailService implements MailService {
 
     @Override
@@ -27,4 +32,10 @@ public class MockMailService implements MailService {
         // do not send mails during tests
         System.out.println("MockMailServices:sendNotificationMail called");
     }
+
+    @Override
+    public void sendNotificationMail(String email, List<NotificationMailDTO> notifications) {
+        // do not send mails during tests
+        System.out.println("MockMailServices:sendNotificationMail called");
+    }
 }
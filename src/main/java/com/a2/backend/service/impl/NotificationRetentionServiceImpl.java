@@ -0,0 +1,106 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.constants.OutboxMailStatus;
+import com.a2.backend.repository.NotificationRepository;
+import com.a2.backend.repository.OutboxMailRepository;
+import com.a2.backend.service.NotificationRetentionService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes seen notifications and delivered or failed outbox mails once they are older than the
+ * configured retention. Rows are deleted in small batches, each one in its own transaction, so the
+ * purge never holds locks on the tables for long.
+ */
+@Service
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private final Logger logger = LoggerFactory.getLogger(NotificationRetentionServiceImpl.class);
+
+    private final NotificationRepository notificationRepository;
+    private final OutboxMailRepository outboxMailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int seenNotificationRetentionDays;
+    private final int outboxMailRetentionDays;
+    private final int batchSize;
+
+    private final AtomicLong purgedNotificationAmount = new AtomicLong();
+    private final AtomicLong purgedOutboxMailAmount = new AtomicLong();
+
+    public NotificationRetentionServiceImpl(
+            NotificationRepository notificationRepository,
+            OutboxMailRepository outboxMailRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.retention.seen-days:90}") int seenNotificationRetentionDays,
+            @Value("${mail.outbox.retention-days:7}") int outboxMailRetentionDays,
+            @Value("${notification.retention.batch-size:500}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.outboxMailRepository = outboxMailRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seenNotificationRetentionDays = seenNotificationRetentionDays;
+        this.outboxMailRetentionDays = outboxMailRetentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${notification.retention.purge-delay:3600000}",
+            fixedDelayString = "${notification.retention.purge-delay:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime notificationCutoff = now.minusDays(seenNotificationRetentionDays);
+        LocalDateTime outboxMailCutoff = now.minusDays(outboxMailRetentionDays);
+
+        long notifications =
+                purgeInBatches(
+                        pageable ->
+                                notificationRepository.findSeenIdsBefore(
+                                        notificationCutoff, pageable),
+                        notificationRepository::deleteByIds);
+        long outboxMails =
+                purgeInBatches(
+                        pageable ->
+                                outboxMailRepository.findIdsByStatusCreatedBefore(
+                                        List.of(OutboxMailStatus.SENT, OutboxMailStatus.FAILED),
+                                        outboxMailCutoff,
+                                        pageable),
+                        outboxMailRepository::deleteByIds);
+
+        logger.info(
+                "Purged {} notifications and {} outbox mails past their retention,"
+                        + " {} and {} since startup",
+                notifications,
+                outboxMails,
+                purgedNotificationAmount.addAndGet(notifications),
+                purgedOutboxMailAmount.addAndGet(outboxMails));
+    }
+
+    private long purgeInBatches(
+            Function<Pageable, List<UUID>> findIds, Function<List<UUID>, Integer> deleteIds) {
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        long purged = 0;
+        int deleted;
+        do {
+            deleted =
+                    transactionTemplate.execute(
+                            status -> {
+                                List<UUID> ids = findIds.apply(firstBatch);
+                                return ids.isEmpty() ? 0 : deleteIds.apply(ids);
+                            });
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+}
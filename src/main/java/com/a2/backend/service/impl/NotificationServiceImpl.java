@@ -2,68 +2,122 @@ package com.a2.backend.service.impl;
 
 import com.a2.backend.entity.Notification;
 import com.a2.backend.entity.User;
+import com.a2.backend.event.NotificationCreatedEvent;
 import com.a2.backend.exception.InvalidUserException;
 import com.a2.backend.exception.NotificationNotFoundException;
 import com.a2.backend.model.NotificationCreateDTO;
 import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.NotificationSummaryDTO;
+import com.a2.backend.model.NotificationSummaryResultDTO;
 import com.a2.backend.repository.NotificationRepository;
-import com.a2.backend.service.MailService;
+import com.a2.backend.service.MailOutboxService;
 import com.a2.backend.service.NotificationService;
+import com.a2.backend.service.NotificationStreamService;
 import com.a2.backend.service.UserService;
+import com.a2.backend.utils.PageUtils;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.transaction.Transactional;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
+@Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
     private final UserService userService;
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
+    private final NotificationStreamService notificationStreamService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NotificationServiceImpl(
             NotificationRepository notificationRepository,
             UserService userService,
-            MailService mailService) {
+            MailOutboxService mailOutboxService,
+            NotificationStreamService notificationStreamService,
+            ApplicationEventPublisher eventPublisher) {
         this.notificationRepository = notificationRepository;
         this.userService = userService;
-        this.mailService = mailService;
+        this.mailOutboxService = mailOutboxService;
+        this.notificationStreamService = notificationStreamService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public NotificationDTO createNotification(NotificationCreateDTO notificationCreateDTO) {
-        Notification notification =
-                Notification.builder()
-                        .userToNotify(notificationCreateDTO.getUserToNotify())
-                        .comment(notificationCreateDTO.getComment())
-                        .discussion(notificationCreateDTO.getDiscussion())
-                        .project(notificationCreateDTO.getProject())
-                        .type(notificationCreateDTO.getType())
-                        .user(notificationCreateDTO.getUser())
-                        .date(LocalDateTime.now())
-                        .build();
-        NotificationDTO savedNotification = notificationRepository.save(notification).toDTO();
-        sendNotificationMail(savedNotification);
-        return savedNotification;
+        return createNotifications(List.of(notificationCreateDTO)).get(0);
+    }
+
+    @Override
+    public List<NotificationDTO> createNotifications(
+            List<NotificationCreateDTO> notificationCreateDTOs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications =
+                notificationCreateDTOs.stream()
+                        .map(
+                                notificationCreateDTO ->
+                                        Notification.builder()
+                                                .userToNotify(
+                                                        notificationCreateDTO.getUserToNotify())
+                                                .comment(notificationCreateDTO.getComment())
+                                                .discussion(notificationCreateDTO.getDiscussion())
+                                                .project(notificationCreateDTO.getProject())
+                                                .type(notificationCreateDTO.getType())
+                                                .user(notificationCreateDTO.getUser())
+                                                .date(now)
+                                                .build())
+                        .collect(Collectors.toList());
+        // Inserted in JDBC batches, see hibernate.jdbc.batch_size
+        List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+        mailOutboxService.enqueueNotificationMails(
+                savedNotifications.stream()
+                        .filter(
+                                notification ->
+                                        notification.getUserToNotify().isAllowsNotifications())
+                        .collect(Collectors.toList()));
+
+        List<NotificationDTO> notificationDTOs =
+                savedNotifications.stream().map(Notification::toDTO).collect(Collectors.toList());
+        notificationDTOs.forEach(
+                notificationDTO ->
+                        eventPublisher.publishEvent(new NotificationCreatedEvent(notificationDTO)));
+        return notificationDTOs;
+    }
+
+    @Override
+    public SseEmitter streamNotificationsOfLoggedUser() {
+        return notificationStreamService.subscribe(userService.getLoggedUser().getId());
     }
 
     @Override
     public List<NotificationDTO> getNotificationsOfLoggedUser() {
         User loggedUser = userService.getLoggedUser();
 
-        val notifications = notificationRepository.findAllByUserToNotify(loggedUser);
-        if (notifications.size() > 1) {
-            notifications.sort(Comparator.comparing(Notification::getDate));
-            Collections.reverse(notifications);
-        }
+        val notifications = notificationRepository.findAllByUserToNotifyOrderByDateDesc(loggedUser);
         return notifications.stream().map(Notification::toDTO).collect(Collectors.toList());
     }
 
+    @Override
+    public NotificationSummaryResultDTO getInboxOfLoggedUser(int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_PAGE_SIZE);
+        val inbox =
+                notificationRepository.findInbox(
+                        userService.getLoggedUser().getId(),
+                        PageRequest.of(Math.max(page, 0), pageSize));
+        return NotificationSummaryResultDTO.builder()
+                .notifications(inbox.getContent())
+                .pageAmount(PageUtils.lastPageIndex(inbox.getTotalElements(), pageSize))
+                .build();
+    }
+
     @Override
     public NotificationDTO markNotificationAsSeen(UUID id) {
         val notificationOptional = notificationRepository.findById(id);
@@ -74,7 +128,7 @@ public class NotificationServiceImpl implements NotificationService {
 
         val notification = notificationOptional.get();
 
-        if (!userService.getLoggedUser().equals(notification.getUserToNotify())) {
+        if (!userService.getLoggedUser().getId().equals(notification.getUserToNotify().getId())) {
             throw new InvalidUserException("User is not allowed to mark this notification as seen");
         }
 
@@ -83,11 +137,44 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public List<NotificationDTO> getFirstFiveNotificationsOfLoggedUser() {
-        if (getNotificationsOfLoggedUser().size() >= 5) {
-            return getNotificationsOfLoggedUser().subList(0, 5);
+    public int markAllNotificationsAsSeen() {
+        return notificationRepository.markAllAsSeen(userService.getLoggedUser().getId());
+    }
+
+    /**
+     * Ids that do not belong to the logged user are ignored instead of failing the whole update.
+     */
+    @Override
+    public int markNotificationsAsSeen(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
         }
-        return getNotificationsOfLoggedUser();
+        return notificationRepository.markAsSeen(userService.getLoggedUser().getId(), ids);
+    }
+
+    @Override
+    public int markNotificationsAsSeenUntil(LocalDateTime until) {
+        return notificationRepository.markAsSeenUntil(userService.getLoggedUser().getId(), until);
+    }
+
+    @Override
+    public List<NotificationDTO> getFirstFiveNotificationsOfLoggedUser() {
+        val notifications =
+                notificationRepository.findTop5ByUserToNotifyOrderByDateDesc(
+                        userService.getLoggedUser());
+        return notifications.stream().map(Notification::toDTO).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<NotificationSummaryDTO> getFirstFiveNotificationSummariesOfLoggedUser() {
+        return notificationRepository.findInboxSlice(
+                userService.getLoggedUser().getId(), PageRequest.of(0, 5));
+    }
+
+    @Override
+    public long countUnseenNotificationsOfLoggedUser() {
+        return notificationRepository.countByUserToNotifyIdAndSeenFalse(
+                userService.getLoggedUser().getId());
     }
 
     @Override
@@ -98,7 +185,7 @@ public class NotificationServiceImpl implements NotificationService {
                     String.format("Notification with id %s not found", notification.get().getId()));
         }
         if (notification.get().getUserToNotify().isAllowsNotifications()) {
-            mailService.sendNotificationMail(notificationDTO);
+            mailOutboxService.enqueueNotificationMail(notification.get());
         }
     }
 }
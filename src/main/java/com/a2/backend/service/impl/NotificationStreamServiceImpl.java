@@ -0,0 +1,171 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.event.NotificationCreatedEvent;
+import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.service.NotificationStreamService;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Keeps the open notification streams of every user and pushes new notifications to them. Each
+ * stream has its own queue drained by the stream executor, so a slow client never blocks the thread
+ * that created the notification. A client that falls too far behind is disconnected and is expected
+ * to reconnect and reload its inbox.
+ */
+@Service
+public class NotificationStreamServiceImpl implements NotificationStreamService {
+
+    static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000;
+    static final int MAX_STREAMS_PER_USER = 5;
+    static final int MAX_PENDING_EVENTS = 32;
+
+    private final TaskExecutor notificationStreamExecutor;
+    private final Map<UUID, List<Stream>> streamsByUser = new ConcurrentHashMap<>();
+
+    public NotificationStreamServiceImpl(
+            @Qualifier("notificationStreamExecutor") TaskExecutor notificationStreamExecutor) {
+        this.notificationStreamExecutor = notificationStreamExecutor;
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID userId) {
+        Stream stream = new Stream(userId, createEmitter());
+        stream.emitter.onCompletion(() -> remove(stream));
+        stream.emitter.onTimeout(() -> remove(stream));
+        stream.emitter.onError(error -> remove(stream));
+
+        List<Stream> streams =
+                streamsByUser.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>());
+        streams.add(stream);
+        if (streams.size() > MAX_STREAMS_PER_USER) {
+            streams.get(0).close();
+        }
+        // Sends the headers right away so the client knows it is connected
+        stream.offer(SseEmitter.event().comment("connected"));
+        return stream.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        publish(event.getNotification());
+    }
+
+    @Override
+    public void publish(NotificationDTO notification) {
+        List<Stream> streams = streamsByUser.get(notification.getUserToNotify().getId());
+        if (streams == null) {
+            return;
+        }
+        for (Stream stream : streams) {
+            stream.offer(
+                    SseEmitter.event()
+                            .name("notification")
+                            .id(notification.getId().toString())
+                            .data(notification));
+        }
+    }
+
+    /** Keeps idle connections from being dropped by proxies and detects clients that are gone. */
+    @Override
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-delay:20000}")
+    public void sendHeartbeat() {
+        streamsByUser
+                .values()
+                .forEach(
+                        streams ->
+                                streams.forEach(
+                                        stream -> stream.offer(SseEmitter.event().comment(""))));
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(STREAM_TIMEOUT_MILLIS);
+    }
+
+    int getStreamAmount(UUID userId) {
+        List<Stream> streams = streamsByUser.get(userId);
+        return streams == null ? 0 : streams.size();
+    }
+
+    private void remove(Stream stream) {
+        streamsByUser.computeIfPresent(
+                stream.userId,
+                (userId, streams) -> {
+                    streams.remove(stream);
+                    return streams.isEmpty() ? null : streams;
+                });
+    }
+
+    private final class Stream {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingAmount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Stream(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (pendingAmount.incrementAndGet() > MAX_PENDING_EVENTS) {
+                close();
+                return;
+            }
+            pending.add(event);
+            drain();
+        }
+
+        private void drain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                notificationStreamExecutor.execute(this::sendPending);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void sendPending() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingAmount.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter was already completed
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!pending.isEmpty()) {
+                drain();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.service.ProjectMembershipService;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ProjectMembershipServiceImpl implements ProjectMembershipService {
+
+    private final ProjectRepository projectRepository;
+
+    public ProjectMembershipServiceImpl(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public boolean isOwner(UUID projectId, UUID userId) {
+        return projectRepository.existsByIdAndOwnerId(projectId, userId);
+    }
+
+    @Override
+    public boolean isCollaborator(UUID projectId, UUID userId) {
+        return projectRepository.existsByIdAndCollaboratorsId(projectId, userId);
+    }
+
+    @Override
+    public boolean isApplicant(UUID projectId, UUID userId) {
+        return projectRepository.existsByIdAndApplicantsId(projectId, userId);
+    }
+
+    @Override
+    public boolean isMember(UUID projectId, UUID userId) {
+        return isOwner(projectId, userId) || isCollaborator(projectId, userId);
+    }
+}
@@ -2,25 +2,40 @@ package com.a2.backend.service.impl;
 
 import com.a2.backend.constants.NotificationType;
 import com.a2.backend.entity.*;
+import com.a2.backend.event.ProjectChangedEvent;
 import com.a2.backend.exception.*;
 import com.a2.backend.model.*;
 import com.a2.backend.repository.ForumTagRepository;
 import com.a2.backend.repository.LanguageRepository;
 import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.repository.ProjectSpecifications;
 import com.a2.backend.repository.TagRepository;
 import com.a2.backend.service.*;
+import com.a2.backend.utils.PageUtils;
+import com.a2.backend.utils.ProjectCursor;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 @Service
+@Transactional
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int SEARCH_PAGE_SIZE = 8;
+
+    private static final int MAX_SLICE_SIZE = 50;
+
+    private static final Sort SEARCH_SORT = Sort.by("title").and(Sort.by("id"));
+
     private final ProjectRepository projectRepository;
 
     private final TagService tagService;
@@ -41,6 +56,10 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final NotificationService notificationService;
 
+    private final ProjectMembershipService projectMembershipService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     public ProjectServiceImpl(
             ProjectRepository projectRepository,
             TagService tagService,
@@ -51,7 +70,9 @@ public class ProjectServiceImpl implements ProjectService {
             ForumTagService forumTagService,
             ForumTagRepository forumTagRepository,
             ReviewService reviewService,
-            NotificationService notificationService) {
+            NotificationService notificationService,
+            ProjectMembershipService projectMembershipService,
+            ApplicationEventPublisher eventPublisher) {
         this.projectRepository = projectRepository;
         this.tagService = tagService;
         this.languageService = languageService;
@@ -62,14 +83,15 @@ public class ProjectServiceImpl implements ProjectService {
         this.forumTagRepository = forumTagRepository;
         this.reviewService = reviewService;
         this.notificationService = notificationService;
+        this.projectMembershipService = projectMembershipService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public Project createProject(ProjectCreateDTO projectCreateDTO) {
-        val existingProjectWithTitle = projectRepository.findByTitle(projectCreateDTO.getTitle());
         User loggedUser = userService.getLoggedUser();
-        if (existingProjectWithTitle.isEmpty()) {
+        if (!projectRepository.existsByTitle(projectCreateDTO.getTitle())) {
             List<Tag> tags = tagService.findOrCreateTag(projectCreateDTO.getTags());
             List<ForumTag> forumTags = forumTagService.createTag(projectCreateDTO.getForumTags());
             List<Language> languages =
@@ -89,7 +111,10 @@ public class ProjectServiceImpl implements ProjectService {
                             .collaborators(List.of())
                             .reviews(List.of())
                             .build();
-            return projectRepository.save(project);
+            userService.invalidateProfiles(List.of(loggedUser.getId()));
+            Project savedProject = projectRepository.save(project);
+            eventPublisher.publishEvent(ProjectChangedEvent.saved(savedProject));
+            return savedProject;
         }
 
         throw new ProjectWithThatTitleExistsException(
@@ -146,6 +171,8 @@ public class ProjectServiceImpl implements ProjectService {
         project.setDescription(projectUpdateDTO.getDescription());
 
         Project updatedProject = projectRepository.save(project);
+        invalidateMemberProfiles(updatedProject);
+        eventPublisher.publishEvent(ProjectChangedEvent.saved(updatedProject));
         tagService.deleteUnusedTags(removedTags);
         forumTagService.deleteUnusedTags(removedForumTags);
         languageService.deleteUnusedLanguages(removedLanguages);
@@ -154,17 +181,24 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public void deleteProject(UUID uuid) {
-        if (projectRepository.existsById(uuid)) {
-            projectRepository.deleteById(uuid);
-            return;
-        }
-        throw new ProjectNotFoundException(String.format("No project found for id: %s", uuid));
+        val project =
+                projectRepository
+                        .findWithMembersById(uuid)
+                        .orElseThrow(
+                                () ->
+                                        new ProjectNotFoundException(
+                                                String.format(
+                                                        "No project found for id: %s", uuid)));
+        userService.discardReputationScores(List.of(uuid));
+        invalidateMemberProfiles(project);
+        projectRepository.delete(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(uuid));
     }
 
     @Override
     public ProjectDTO getProjectDetails(UUID projectID) {
         return projectRepository
-                .findById(projectID)
+                .findDetailById(projectID)
                 .map(Project::toDTO)
                 .orElseThrow(
                         () ->
@@ -175,7 +209,10 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional
     public void deleteProjectsFromUser(User owner) {
+        List<UUID> projectIds = projectRepository.findIdsByOwner(owner);
+        userService.discardReputationScores(projectIds);
         projectRepository.deleteByOwner(owner);
+        projectIds.forEach(id -> eventPublisher.publishEvent(ProjectChangedEvent.deleted(id)));
     }
 
     @Override
@@ -183,164 +220,171 @@ public class ProjectServiceImpl implements ProjectService {
         return languageService.getValidLanguages();
     }
 
+    @Override
+    public SearchResultDTO getProjectsSlice(String cursor, Integer size) {
+        return searchSlice(Specification.where(null), cursor, size);
+    }
+
+    @Override
     public SearchResultDTO searchProjectsByFilter(ProjectSearchDTO projectSearchDTO) {
-        ArrayList<Project> result = new ArrayList<>();
-        boolean featured = projectSearchDTO.isFeatured();
-        boolean nullTitle = projectSearchDTO.getTitle() == null;
-        boolean nullTags = projectSearchDTO.getTags() == null;
-        boolean nullLangs = projectSearchDTO.getLanguages() == null;
-        boolean nullPage = projectSearchDTO.getPage() == -1;
-        List<String> upperCaseTagSearchFilters = new ArrayList<>();
-        List<String> upperCaseLangSearchFilters = new ArrayList<>();
-
-        if (!nullTags) {
-            for (int j = 0; j < projectSearchDTO.getTags().size(); j++) {
-                upperCaseTagSearchFilters.add(
-                        projectSearchDTO.getTags().get(j).toUpperCase(Locale.ROOT));
-            }
-        }
-        if (!nullLangs) {
-            for (int j = 0; j < projectSearchDTO.getLanguages().size(); j++) {
-                upperCaseLangSearchFilters.add(
-                        projectSearchDTO.getLanguages().get(j).toUpperCase(Locale.ROOT));
-            }
-        }
-        if (featured) {
-            if (!nullTitle) {
-                if (!nullLangs) {
-                    result.addAll(
-                            projectRepository.findProjectsByLanguagesInAndTitleAndFeatured(
-                                    featured,
-                                    projectSearchDTO.getTitle().toUpperCase(Locale.ROOT),
-                                    upperCaseLangSearchFilters));
-                }
-                if (!nullTags) {
-                    result.addAll(
-                            projectRepository.findProjectsByTagsInAndTitleAndFeatured(
-                                    featured,
-                                    projectSearchDTO.getTitle().toUpperCase(Locale.ROOT),
-                                    upperCaseTagSearchFilters));
-                }
-                if (nullLangs && nullTags) {
-                    result.addAll(
-                            projectRepository.findByTitleContainingIgnoreCaseAndFeatured(
-                                    featured,
-                                    projectSearchDTO.getTitle().toUpperCase(Locale.ROOT)));
-                }
-            } else if (!nullLangs) {
-                result.addAll(
-                        projectRepository.findProjectsByLanguagesInAndFeatured(
-                                featured, upperCaseLangSearchFilters));
-            }
-            if (!nullTags) {
-                result.addAll(
-                        projectRepository.findProjectsByTagsInAndFeatured(
-                                featured, upperCaseTagSearchFilters));
-            }
-            if (nullLangs && nullTags) {
-                result.addAll(projectRepository.findAllByFeatured(featured));
-            }
-        } else {
-            if (!nullTitle) {
-                if (!nullLangs) {
-                    result.addAll(
-                            projectRepository.findProjectsByLanguagesInAndTitle(
-                                    projectSearchDTO.getTitle().toUpperCase(Locale.ROOT),
-                                    upperCaseLangSearchFilters));
-                }
-                if (!nullTags) {
-                    result.addAll(
-                            projectRepository.findProjectsByTagsInAndTitle(
-                                    projectSearchDTO.getTitle().toUpperCase(Locale.ROOT),
-                                    upperCaseTagSearchFilters));
-                }
-                if (nullLangs && nullTags) {
-                    result.addAll(
-                            projectRepository.findByTitleContainingIgnoreCase(
-                                    projectSearchDTO.getTitle().toUpperCase(Locale.ROOT)));
-                }
-            } else if (!nullLangs) {
-                result.addAll(
-                        projectRepository.findProjectsByLanguagesIn(upperCaseLangSearchFilters));
-            }
-            if (!nullTags) {
-                result.addAll(projectRepository.findProjectsByTagsIn(upperCaseTagSearchFilters));
-            }
-            if (nullLangs && nullTags) {
-                result.addAll(projectRepository.findAll());
-            }
-        }
-
-        for (int i = 0; i < result.size() - 1; i++) {
-            for (int j = i + 1; j < result.size(); j++) {
-                if (result.get(i).getId().equals(result.get(j).getId())) {
-                    result.remove(i);
-                    i--;
-                    break;
-                }
-            }
-        }
-        for (int i = 0; i < result.size(); i++) {
-            if (!nullTitle) {
-                if (!result.get(i)
-                        .getTitle()
-                        .toUpperCase(Locale.ROOT)
-                        .contains(projectSearchDTO.getTitle().toUpperCase(Locale.ROOT))) {
-                    result.remove(i);
-                    i--;
-                    continue;
-                }
-            }
-
-            if (!nullLangs) {
-                List<String> upperCaseResults = new ArrayList<>();
-                for (int j = 0; j < result.get(i).getLanguages().size(); j++) {
-                    upperCaseResults.add(
-                            result.get(i).getLanguages().get(j).getName().toUpperCase(Locale.ROOT));
-                }
-                if (result.get(i).getLanguages().size() < projectSearchDTO.getLanguages().size()
-                        || !upperCaseResults.containsAll(upperCaseLangSearchFilters)) {
-                    result.remove(i);
-                    i--;
-                    continue;
-                }
-            }
-            if (!nullTags) {
-                List<String> upperCaseResults = new ArrayList<>();
-                for (int j = 0; j < result.get(i).getTags().size(); j++) {
-                    upperCaseResults.add(
-                            result.get(i).getTags().get(j).getName().toUpperCase(Locale.ROOT));
-                }
-                if (result.get(i).getTags().size() < projectSearchDTO.getTags().size()
-                        || !upperCaseResults.containsAll(upperCaseTagSearchFilters)) {
-                    result.remove(i);
-                    i--;
-                    continue;
-                }
-            }
-        }
-        int pageAmount =
-                result.size() % 8 == 0 && result.size() != 0
-                        ? (result.size() / 8) - 1
-                        : result.size() / 8;
-
-        if (!nullPage) {
-            int page = projectSearchDTO.getPage();
-            if (result.size() <= 8 * page) {
-                return SearchResultDTO.builder().projects(new ArrayList<>()).pageAmount(0).build();
-            }
-            if (result.size() > 8 * (page)) {
-                result.removeAll(result.subList(0, 8 * page));
-                for (int i = 0; i < result.size(); i++) {}
-            }
-            if (result.size() > 8) {
-                result.removeAll(result.subList(8, result.size()));
-            }
-        }
-
-        List<ProjectDTO> projects =
-                result.stream().map(Project::toDTO).collect(Collectors.toList());
-        return SearchResultDTO.builder().projects(projects).pageAmount(pageAmount).build();
+        Specification<Project> specification = toSpecification(projectSearchDTO);
+
+        if (projectSearchDTO.getCursor() != null || projectSearchDTO.getSize() != null) {
+            return searchSlice(
+                    specification, projectSearchDTO.getCursor(), projectSearchDTO.getSize());
+        }
+
+        if (projectSearchDTO.getPage() == -1) {
+            List<Project> result = projectRepository.findAll(specification, SEARCH_SORT);
+            return SearchResultDTO.builder()
+                    .projects(result.stream().map(Project::toDTO).collect(Collectors.toList()))
+                    .pageAmount(PageUtils.lastPageIndex(result.size(), SEARCH_PAGE_SIZE))
+                    .build();
+        }
+
+        Page<Project> page =
+                projectRepository.findAll(
+                        specification,
+                        PageRequest.of(projectSearchDTO.getPage(), SEARCH_PAGE_SIZE, SEARCH_SORT));
+        if (!page.hasContent()) {
+            return SearchResultDTO.builder().projects(new ArrayList<>()).pageAmount(0).build();
+        }
+        return SearchResultDTO.builder()
+                .projects(page.map(Project::toDTO).getContent())
+                .pageAmount(PageUtils.lastPageIndex(page.getTotalElements(), SEARCH_PAGE_SIZE))
+                .build();
+    }
+
+    /**
+     * Keyset pagination over (title, id): the cursor restricts the query to rows after the last
+     * project the client saw, so every slice costs the same regardless of how deep it is. One extra
+     * row is fetched to know whether a next cursor has to be returned.
+     */
+    private SearchResultDTO searchSlice(
+            Specification<Project> specification, String cursor, Integer size) {
+        int sliceSize = sliceSize(size);
+        List<Project> result =
+                projectRepository.findLimited(
+                        afterCursor(specification, cursor), SEARCH_SORT, sliceSize + 1);
+        String next = null;
+        if (result.size() > sliceSize) {
+            result = result.subList(0, sliceSize);
+            next = ProjectCursor.encode(result.get(sliceSize - 1));
+        }
+        return SearchResultDTO.builder()
+                .projects(result.stream().map(Project::toDTO).collect(Collectors.toList()))
+                .next(next)
+                .build();
+    }
+
+    private ProjectSummaryResultDTO searchSummarySlice(
+            Specification<Project> specification, String cursor, Integer size) {
+        int sliceSize = sliceSize(size);
+        List<ProjectSummaryDTO> result =
+                projectRepository.findSummaries(
+                        afterCursor(specification, cursor), SEARCH_SORT, 0, sliceSize + 1);
+        String next = null;
+        if (result.size() > sliceSize) {
+            result = result.subList(0, sliceSize);
+            val last = result.get(sliceSize - 1);
+            next = ProjectCursor.encode(last.getId(), last.getTitle());
+        }
+        return ProjectSummaryResultDTO.builder().projects(result).next(next).build();
+    }
+
+    private int sliceSize(Integer size) {
+        return size == null ? SEARCH_PAGE_SIZE : Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
+    private Specification<Project> afterCursor(
+            Specification<Project> specification, String cursor) {
+        if (cursor == null) {
+            return specification;
+        }
+        val position = ProjectCursor.decode(cursor);
+        return specification.and(
+                ProjectSpecifications.after(position.getTitle(), position.getId()));
+    }
+
+    @Override
+    public List<ProjectSummaryDTO> getAllProjectSummaries() {
+        return findAllSummaries(Specification.where(null));
+    }
+
+    @Override
+    public ProjectSummaryResultDTO getProjectSummariesSlice(String cursor, Integer size) {
+        return searchSummarySlice(Specification.where(null), cursor, size);
+    }
+
+    @Override
+    public List<ProjectSummaryDTO> getFeaturedProjectSummaries() {
+        return findAllSummaries(ProjectSpecifications.isFeatured());
+    }
+
+    @Override
+    public List<ProjectSummaryDTO> getMyProjectSummaries() {
+        return findAllSummaries(ProjectSpecifications.ownedBy(userService.getLoggedUser()));
+    }
+
+    @Override
+    public ProjectSummaryResultDTO searchProjectSummariesByFilter(
+            ProjectSearchDTO projectSearchDTO) {
+        Specification<Project> specification = toSpecification(projectSearchDTO);
+
+        if (projectSearchDTO.getCursor() != null || projectSearchDTO.getSize() != null) {
+            return searchSummarySlice(
+                    specification, projectSearchDTO.getCursor(), projectSearchDTO.getSize());
+        }
+
+        if (projectSearchDTO.getPage() == -1) {
+            List<ProjectSummaryDTO> result = findAllSummaries(specification);
+            return ProjectSummaryResultDTO.builder()
+                    .projects(result)
+                    .pageAmount(PageUtils.lastPageIndex(result.size(), SEARCH_PAGE_SIZE))
+                    .build();
+        }
+
+        List<ProjectSummaryDTO> result =
+                projectRepository.findSummaries(
+                        specification,
+                        SEARCH_SORT,
+                        projectSearchDTO.getPage() * SEARCH_PAGE_SIZE,
+                        SEARCH_PAGE_SIZE);
+        if (result.isEmpty()) {
+            return ProjectSummaryResultDTO.builder().projects(result).pageAmount(0).build();
+        }
+        return ProjectSummaryResultDTO.builder()
+                .projects(result)
+                .pageAmount(
+                        PageUtils.lastPageIndex(
+                                projectRepository.count(specification), SEARCH_PAGE_SIZE))
+                .build();
+    }
+
+    private List<ProjectSummaryDTO> findAllSummaries(Specification<Project> specification) {
+        return projectRepository.findSummaries(specification, SEARCH_SORT, 0, Integer.MAX_VALUE);
+    }
+
+    private Specification<Project> toSpecification(ProjectSearchDTO projectSearchDTO) {
+        Specification<Project> specification = Specification.where(null);
+        if (projectSearchDTO.isFeatured()) {
+            specification = specification.and(ProjectSpecifications.isFeatured());
+        }
+        if (projectSearchDTO.getTitle() != null) {
+            specification =
+                    specification.and(
+                            ProjectSpecifications.titleContains(projectSearchDTO.getTitle()));
+        }
+        if (projectSearchDTO.getTags() != null && !projectSearchDTO.getTags().isEmpty()) {
+            specification =
+                    specification.and(ProjectSpecifications.hasAllTags(projectSearchDTO.getTags()));
+        }
+        if (projectSearchDTO.getLanguages() != null && !projectSearchDTO.getLanguages().isEmpty()) {
+            specification =
+                    specification.and(
+                            ProjectSpecifications.hasAllLanguages(projectSearchDTO.getLanguages()));
+        }
+        return specification;
     }
 
     @Override
@@ -371,12 +415,12 @@ public class ProjectServiceImpl implements ProjectService {
 
         val project = projectToApplyOptional.get();
 
-        if (project.getCollaborators().contains(loggedUser)) {
+        if (projectMembershipService.isCollaborator(projectToApplyID, loggedUser.getId())) {
             throw new InvalidProjectCollaborationApplicationException(
                     String.format("Already collaborating in project: %s", project.getTitle()));
         }
 
-        if (project.getApplicants().contains(loggedUser)) {
+        if (projectMembershipService.isApplicant(projectToApplyID, loggedUser.getId())) {
             throw new InvalidProjectCollaborationApplicationException(
                     String.format("Already applied to project: %s", project.getTitle()));
         }
@@ -398,6 +442,7 @@ public class ProjectServiceImpl implements ProjectService {
                         .userToNotify(project.getOwner())
                         .build();
         notificationService.createNotification(notificationCreateDTO);
+        invalidateMemberProfiles(project);
 
         return projectRepository.save(project).toDTO();
     }
@@ -453,10 +498,7 @@ public class ProjectServiceImpl implements ProjectService {
             throw new InvalidUserException("Only project owners can accept applicants");
         }
 
-        if (!project.getApplicants().stream()
-                .map(User::getId)
-                .collect(Collectors.toList())
-                .contains(userId)) {
+        if (!projectMembershipService.isApplicant(projectId, userId)) {
             throw new InvalidUserException(
                     String.format("The applicants with that id: %s does not exist!", userId));
         }
@@ -468,6 +510,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.setApplicants(updatedApplicants);
         project.setCollaborators(updatedCollaborators);
+        invalidateMemberProfiles(project);
 
         return projectRepository.save(project).getApplicants().stream()
                 .map(User::toDTO)
@@ -490,10 +533,7 @@ public class ProjectServiceImpl implements ProjectService {
             throw new InvalidUserException("Only project owners can reject applicants");
         }
 
-        if (!project.getApplicants().stream()
-                .map(User::getId)
-                .collect(Collectors.toList())
-                .contains(userId)) {
+        if (!projectMembershipService.isApplicant(projectId, userId)) {
             throw new InvalidUserException(
                     String.format("The applicants with that id: %s does not exist!", userId));
         }
@@ -502,6 +542,7 @@ public class ProjectServiceImpl implements ProjectService {
         updatedApplicants.remove(userService.getUser(userId));
 
         project.setApplicants(updatedApplicants);
+        invalidateMemberProfiles(project);
 
         return projectRepository.save(project).getApplicants().stream()
                 .map(User::toDTO)
@@ -511,7 +552,7 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public ReviewDTO createReview(UUID projectId, ReviewCreateDTO reviewCreateDTO) {
         User loggedUser = userService.getLoggedUser();
-        val projectOptional = projectRepository.findById(projectId);
+        val projectOptional = projectRepository.findWithReviewsById(projectId);
 
         if (projectOptional.isEmpty()) {
             throw new ProjectNotFoundException(
@@ -524,10 +565,8 @@ public class ProjectServiceImpl implements ProjectService {
             throw new InvalidUserException("Only project owners can submit reviews");
         }
 
-        if (!project.getCollaborators().stream()
-                .map(User::getId)
-                .collect(Collectors.toList())
-                .contains(reviewCreateDTO.getCollaboratorID())) {
+        if (!projectMembershipService.isCollaborator(
+                projectId, reviewCreateDTO.getCollaboratorID())) {
             throw new NotValidCollaboratorException(
                     String.format(
                             "The user with id: %s does not collaborate in project with id: %s",
@@ -549,36 +588,33 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.setReviews(reviews);
         projectRepository.save(project);
-        userService.updateReputation(reviewCreateDTO.getCollaboratorID());
+        userService.recordReview(project, review);
+        invalidateMemberProfiles(project);
 
         return review.toDTO();
     }
 
     @Override
-    public List<ReviewDTO> getUserReviews(UUID projectId, UUID userId) {
-
+    public ReviewResultDTO getUserReviews(UUID projectId, UUID userId, int page, int size) {
         User loggedUser = userService.getLoggedUser();
-        val projectOptional = projectRepository.findById(projectId);
 
-        if (projectOptional.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             throw new ProjectNotFoundException(
                     String.format("The project with that id: %s does not exist!", projectId));
         }
 
-        val project = projectOptional.get();
-
-        if (!project.getOwner().equals(loggedUser)) {
+        if (!projectMembershipService.isOwner(projectId, loggedUser.getId())) {
             throw new InvalidUserException("Only project owners can see collaborator reviews");
         }
 
-        List<ReviewDTO> reviewDTOS = new ArrayList<>();
-
-        for (Review review : project.getReviews()) {
-            if (review.getCollaborator().getId().equals(userId)) {
-                reviewDTOS.add(review.toDTO());
-            }
-        }
+        return reviewService.getCollaboratorReviews(projectId, userId, page, size);
+    }
 
-        return reviewDTOS;
+    /** Drops the cached profiles that list the project, which are those of its members. */
+    private void invalidateMemberProfiles(Project project) {
+        List<UUID> memberIds =
+                project.getCollaborators().stream().map(User::getId).collect(Collectors.toList());
+        memberIds.add(project.getOwner().getId());
+        userService.invalidateProfiles(memberIds);
     }
 }
@@ -0,0 +1,249 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.entity.Project;
+import com.a2.backend.event.ProjectChangedEvent;
+import com.a2.backend.model.ProjectDTO;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.service.RecommendationService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import javax.transaction.Transactional;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Recommends projects from an in memory index of tag and language names to project ids, so only the
+ * projects that end up recommended are read from the database. The index is built when the
+ * application starts and kept up to date with {@link ProjectChangedEvent}s.
+ */
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final int FEATURED_AMOUNT = 2;
+
+    private static final int PREFERRED_AMOUNT = 4;
+
+    private static final int RECOMMENDATION_AMOUNT = 6;
+
+    private final ProjectRepository projectRepository;
+
+    // Every field below is guarded by this
+    private final Map<UUID, IndexedProject> indexedProjects = new HashMap<>();
+
+    private final List<UUID> projectIds = new ArrayList<>();
+
+    private final Map<String, Set<UUID>> projectsByTag = new HashMap<>();
+
+    private final Map<String, Set<UUID>> projectsByLanguage = new HashMap<>();
+
+    private final Set<UUID> featuredProjects = new HashSet<>();
+
+    public RecommendationServiceImpl(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    @Transactional
+    public List<ProjectDTO> getRecommendedProjects(
+            Collection<String> preferredTags, Collection<String> preferredLanguages) {
+        List<UUID> ids = recommendProjectIds(preferredTags, preferredLanguages);
+        Map<UUID, Project> projects =
+                projectRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Project::getId, Function.identity()));
+        return ids.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .map(Project::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        Map<UUID, IndexedProject> projects = new HashMap<>();
+        for (Object[] row : projectRepository.findFeaturedFlags()) {
+            projects.put((UUID) row[0], new IndexedProject((Boolean) row[1]));
+        }
+        for (Object[] row : projectRepository.findTagNames()) {
+            IndexedProject project = projects.get((UUID) row[0]);
+            if (project != null) {
+                project.tags.add(normalize((String) row[1]));
+            }
+        }
+        for (Object[] row : projectRepository.findLanguageNames()) {
+            IndexedProject project = projects.get((UUID) row[0]);
+            if (project != null) {
+                project.languages.add(normalize((String) row[1]));
+            }
+        }
+
+        synchronized (this) {
+            indexedProjects.clear();
+            projectIds.clear();
+            projectsByTag.clear();
+            projectsByLanguage.clear();
+            featuredProjects.clear();
+            projects.forEach(this::add);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        remove(event.getProjectId());
+        if (event.isDeleted()) {
+            return;
+        }
+        IndexedProject project = new IndexedProject(event.isFeatured());
+        event.getTags().forEach(tag -> project.tags.add(normalize(tag)));
+        event.getLanguages().forEach(language -> project.languages.add(normalize(language)));
+        add(event.getProjectId(), project);
+    }
+
+    /**
+     * Picks two featured projects, then up to four projects sharing tags or languages with the
+     * preferences, where each shared name makes a project more likely, and fills the rest at
+     * random. A project is never picked twice.
+     */
+    synchronized List<UUID> recommendProjectIds(
+            Collection<String> preferredTags, Collection<String> preferredLanguages) {
+        List<UUID> chosen = new ArrayList<>(RECOMMENDATION_AMOUNT);
+        chosen.addAll(sample(featuredProjects, id -> 1, FEATURED_AMOUNT, chosen));
+
+        Map<UUID, Integer> matches = new HashMap<>();
+        countMatches(projectsByTag, preferredTags, matches);
+        countMatches(projectsByLanguage, preferredLanguages, matches);
+        chosen.addAll(sample(matches.keySet(), matches::get, PREFERRED_AMOUNT, chosen));
+
+        int missing = RECOMMENDATION_AMOUNT - chosen.size();
+        if (projectIds.size() > 4 * RECOMMENDATION_AMOUNT) {
+            // Plenty of projects to draw from, so retrying a taken one is cheaper than a full pass
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (missing > 0) {
+                UUID id = projectIds.get(random.nextInt(projectIds.size()));
+                if (!chosen.contains(id)) {
+                    chosen.add(id);
+                    missing--;
+                }
+            }
+        } else {
+            chosen.addAll(sample(projectIds, id -> 1, missing, chosen));
+        }
+        return chosen;
+    }
+
+    synchronized int getIndexedAmount() {
+        return indexedProjects.size();
+    }
+
+    private void add(UUID id, IndexedProject project) {
+        project.position = projectIds.size();
+        projectIds.add(id);
+        indexedProjects.put(id, project);
+        project.tags.forEach(
+                tag -> projectsByTag.computeIfAbsent(tag, key -> new HashSet<>()).add(id));
+        project.languages.forEach(
+                language ->
+                        projectsByLanguage
+                                .computeIfAbsent(language, key -> new HashSet<>())
+                                .add(id));
+        if (project.featured) {
+            featuredProjects.add(id);
+        }
+    }
+
+    private void remove(UUID id) {
+        IndexedProject project = indexedProjects.remove(id);
+        if (project == null) {
+            return;
+        }
+        UUID lastId = projectIds.remove(projectIds.size() - 1);
+        if (!lastId.equals(id)) {
+            projectIds.set(project.position, lastId);
+            indexedProjects.get(lastId).position = project.position;
+        }
+        project.tags.forEach(tag -> removePosting(projectsByTag, tag, id));
+        project.languages.forEach(language -> removePosting(projectsByLanguage, language, id));
+        featuredProjects.remove(id);
+    }
+
+    private static void removePosting(Map<String, Set<UUID>> index, String name, UUID id) {
+        Set<UUID> ids = index.get(name);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(name);
+        }
+    }
+
+    private static void countMatches(
+            Map<String, Set<UUID>> index, Collection<String> names, Map<UUID, Integer> matches) {
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            index.getOrDefault(normalize(name), Set.of())
+                    .forEach(id -> matches.merge(id, 1, Integer::sum));
+        }
+    }
+
+    /**
+     * Weighted sampling without replacement: every candidate gets the key {@code u^(1/weight)} for
+     * a uniform {@code u}, and the candidates with the largest keys are kept.
+     */
+    private static List<UUID> sample(
+            Collection<UUID> candidates,
+            ToIntFunction<UUID> weight,
+            int amount,
+            Collection<UUID> excluded) {
+        if (amount <= 0) {
+            return List.of();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        PriorityQueue<Map.Entry<UUID, Double>> best =
+                new PriorityQueue<>(amount, Map.Entry.comparingByValue());
+        for (UUID id : candidates) {
+            if (excluded.contains(id)) {
+                continue;
+            }
+            double key = Math.pow(random.nextDouble(), 1.0 / weight.applyAsInt(id));
+            if (best.size() < amount) {
+                best.add(Map.entry(id, key));
+            } else if (key > best.peek().getValue()) {
+                best.poll();
+                best.add(Map.entry(id, key));
+            }
+        }
+        return best.stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static String normalize(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class IndexedProject {
+        private final boolean featured;
+        private final Set<String> tags = new HashSet<>();
+        private final Set<String> languages = new HashSet<>();
+        private int position;
+
+        private IndexedProject(boolean featured) {
+            this.featured = featured;
+        }
+    }
+}
@@ -3,16 +3,25 @@ package com.a2.backend.service.impl;
 import com.a2.backend.entity.Review;
 import com.a2.backend.exception.InvalidUserException;
 import com.a2.backend.model.ReviewCreateDTO;
+import com.a2.backend.model.ReviewResultDTO;
 import com.a2.backend.repository.ReviewRepository;
 import com.a2.backend.repository.UserRepository;
 import com.a2.backend.service.ReviewService;
+import com.a2.backend.utils.PageUtils;
 import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.val;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
 
     private final ReviewRepository reviewRepository;
@@ -41,4 +50,29 @@ public class ReviewServiceImpl implements ReviewService {
 
         return review;
     }
+
+    @Override
+    public ReviewResultDTO getCollaboratorReviews(UUID collaboratorId, int page, int size) {
+        return toResult(
+                reviewRepository.findLatestByCollaboratorId(collaboratorId, pageOf(page, size)));
+    }
+
+    @Override
+    public ReviewResultDTO getCollaboratorReviews(
+            UUID projectId, UUID collaboratorId, int page, int size) {
+        return toResult(
+                reviewRepository.findLatestByProjectIdAndCollaboratorId(
+                        projectId, collaboratorId, pageOf(page, size)));
+    }
+
+    private Pageable pageOf(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    private ReviewResultDTO toResult(Page<Review> reviews) {
+        return ReviewResultDTO.builder()
+                .reviews(reviews.stream().map(Review::toDTO).collect(Collectors.toList()))
+                .pageAmount(PageUtils.lastPageIndex(reviews.getTotalElements(), reviews.getSize()))
+                .build();
+    }
 }
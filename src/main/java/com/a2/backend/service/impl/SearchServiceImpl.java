@@ -0,0 +1,188 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.constants.SearchDocumentType;
+import com.a2.backend.event.SearchDocumentChangedEvent;
+import com.a2.backend.model.SearchHitDTO;
+import com.a2.backend.model.SearchHitResultDTO;
+import com.a2.backend.repository.DiscussionRepository;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.service.SearchService;
+import com.a2.backend.utils.FullTextIndex;
+import com.a2.backend.utils.PageUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.val;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Full text search over projects, discussions and comments. The index lives in memory: it is built
+ * from the database when the application starts and then follows the {@link
+ * SearchDocumentChangedEvent}s of every committed write.
+ */
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(SearchServiceImpl.class);
+
+    private final ProjectRepository projectRepository;
+
+    private final DiscussionRepository discussionRepository;
+
+    private volatile FullTextIndex<SearchDocument> index = new FullTextIndex<>();
+
+    public SearchServiceImpl(
+            ProjectRepository projectRepository, DiscussionRepository discussionRepository) {
+        this.projectRepository = projectRepository;
+        this.discussionRepository = discussionRepository;
+    }
+
+    @Override
+    public SearchHitResultDTO search(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        val result = index.search(query, Math.max(page, 0) * pageSize, pageSize);
+
+        List<UUID> commentIds =
+                result.getHits().stream()
+                        .map(FullTextIndex.Hit::getKey)
+                        .filter(document -> document.getType() == SearchDocumentType.COMMENT)
+                        .map(SearchDocument::getId)
+                        .collect(Collectors.toList());
+        Map<UUID, Object[]> commentLocations =
+                commentIds.isEmpty()
+                        ? Map.of()
+                        : discussionRepository.findCommentLocations(commentIds).stream()
+                                .collect(
+                                        Collectors.toMap(
+                                                row -> (UUID) row[0], Function.identity()));
+
+        List<SearchHitDTO> hits = new ArrayList<>(result.getHits().size());
+        for (FullTextIndex.Hit<SearchDocument> hit : result.getHits()) {
+            SearchDocument document = hit.getKey();
+            SearchHitDTO.SearchHitDTOBuilder searchHit =
+                    SearchHitDTO.builder()
+                            .type(document.getType())
+                            .id(document.getId())
+                            .title(hit.getTitle())
+                            .highlight(hit.getHighlight())
+                            .score(hit.getScore());
+            switch (document.getType()) {
+                case PROJECT:
+                    searchHit.projectId(document.getId());
+                    break;
+                case DISCUSSION:
+                    searchHit.projectId(document.getProjectId()).discussionId(document.getId());
+                    break;
+                default:
+                    Object[] location = commentLocations.get(document.getId());
+                    if (location == null) {
+                        // The discussion was closed after the comment was indexed
+                        continue;
+                    }
+                    searchHit
+                            .discussionId((UUID) location[1])
+                            .title((String) location[2])
+                            .projectId((UUID) location[3]);
+            }
+            hits.add(searchHit.build());
+        }
+
+        return SearchHitResultDTO.builder()
+                .hits(hits)
+                .hitAmount(result.getTotal())
+                .pageAmount(PageUtils.lastPageIndex(result.getTotal(), pageSize))
+                .build();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        FullTextIndex<SearchDocument> rebuiltIndex = new FullTextIndex<>();
+        readAll(
+                projectRepository::findSearchDocuments,
+                row ->
+                        rebuiltIndex.put(
+                                new SearchDocument(
+                                        SearchDocumentType.PROJECT, (UUID) row[0], (UUID) row[0]),
+                                (String) row[1],
+                                (String) row[2]));
+        readAll(
+                discussionRepository::findSearchDocuments,
+                row ->
+                        rebuiltIndex.put(
+                                new SearchDocument(
+                                        SearchDocumentType.DISCUSSION,
+                                        (UUID) row[0],
+                                        (UUID) row[1]),
+                                (String) row[2],
+                                (String) row[3]));
+        readAll(
+                discussionRepository::findCommentSearchDocuments,
+                row ->
+                        rebuiltIndex.put(
+                                new SearchDocument(SearchDocumentType.COMMENT, (UUID) row[0], null),
+                                null,
+                                (String) row[1]));
+        index = rebuiltIndex;
+        logger.info("Indexed {} documents for full text search", rebuiltIndex.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchDocumentChanged(SearchDocumentChangedEvent event) {
+        SearchDocument document =
+                new SearchDocument(event.getType(), event.getId(), event.getProjectId());
+        if (event.isRemoved()) {
+            index.remove(document);
+            if (event.getType() == SearchDocumentType.DISCUSSION) {
+                // The comments of a closed discussion are no longer shown either
+                discussionRepository
+                        .findCommentIds(event.getId())
+                        .forEach(
+                                commentId ->
+                                        index.remove(
+                                                new SearchDocument(
+                                                        SearchDocumentType.COMMENT,
+                                                        commentId,
+                                                        null)));
+            }
+        } else {
+            index.put(document, event.getTitle(), event.getBody());
+        }
+    }
+
+    private static void readAll(
+            Function<Pageable, List<Object[]>> query, Consumer<Object[]> consumer) {
+        List<Object[]> rows;
+        int page = 0;
+        do {
+            rows = query.apply(PageRequest.of(page++, REBUILD_BATCH_SIZE));
+            rows.forEach(consumer);
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+    }
+
+    /** Identifies an indexed entity; the project id is only kept to link the hit. */
+    @Value
+    @EqualsAndHashCode(exclude = "projectId")
+    static class SearchDocument {
+        SearchDocumentType type;
+        UUID id;
+        UUID projectId;
+    }
+}
@@ -0,0 +1,205 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.event.DiscussionChangedEvent;
+import com.a2.backend.event.ProjectChangedEvent;
+import com.a2.backend.event.VocabularyChangedEvent;
+import com.a2.backend.repository.DiscussionRepository;
+import com.a2.backend.repository.ForumTagRepository;
+import com.a2.backend.repository.LanguageRepository;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.repository.TagRepository;
+import com.a2.backend.service.SuggestionService;
+import com.a2.backend.utils.LanguageCatalog;
+import com.a2.backend.utils.PrefixIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves tag, language and forum tag suggestions from in memory prefix indexes, ranked by how many
+ * projects (or open discussions, for forum tags) use each name. The indexes are built when the
+ * application starts and then follow vocabulary, project and discussion change events.
+ */
+@Slf4j
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final TagRepository tagRepository;
+    private final LanguageRepository languageRepository;
+    private final ForumTagRepository forumTagRepository;
+    private final ProjectRepository projectRepository;
+    private final DiscussionRepository discussionRepository;
+    private final LanguageCatalog languageCatalog;
+
+    // Replaced as a whole on rebuild; the usage maps inside are guarded by this
+    private volatile Vocabulary tags = new Vocabulary();
+    private volatile Vocabulary languages = new Vocabulary();
+    private volatile Vocabulary forumTags = new Vocabulary();
+    private final Map<UUID, Set<UUID>> discussionsByProject = new HashMap<>();
+
+    public SuggestionServiceImpl(
+            TagRepository tagRepository,
+            LanguageRepository languageRepository,
+            ForumTagRepository forumTagRepository,
+            ProjectRepository projectRepository,
+            DiscussionRepository discussionRepository,
+            LanguageCatalog languageCatalog) {
+        this.tagRepository = tagRepository;
+        this.languageRepository = languageRepository;
+        this.forumTagRepository = forumTagRepository;
+        this.projectRepository = projectRepository;
+        this.discussionRepository = discussionRepository;
+        this.languageCatalog = languageCatalog;
+    }
+
+    @Override
+    public List<String> suggestTags(String prefix, int limit) {
+        return tags.index.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    @Override
+    public List<String> suggestLanguages(String prefix, int limit) {
+        return languages.index.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    @Override
+    public List<String> suggestForumTags(String prefix, int limit) {
+        return forumTags.index.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        Vocabulary rebuiltTags = new Vocabulary();
+        rebuiltTags.load(tagRepository.findAllNames(), projectRepository.findTagNames(), 1);
+
+        // Every valid language can be suggested, even before a project uses it
+        List<String> languageNames = new ArrayList<>(languageCatalog.getNames());
+        languageNames.addAll(languageRepository.findAllNames());
+        Vocabulary rebuiltLanguages = new Vocabulary();
+        rebuiltLanguages.load(languageNames, projectRepository.findLanguageNames(), 1);
+
+        List<Object[]> forumTagUsages = discussionRepository.findForumTagNames();
+        Vocabulary rebuiltForumTags = new Vocabulary();
+        rebuiltForumTags.load(forumTagRepository.findAllNames(), forumTagUsages, 2);
+
+        synchronized (this) {
+            tags = rebuiltTags;
+            languages = rebuiltLanguages;
+            forumTags = rebuiltForumTags;
+            discussionsByProject.clear();
+            for (Object[] row : forumTagUsages) {
+                discussionsByProject
+                        .computeIfAbsent((UUID) row[1], id -> new HashSet<>())
+                        .add((UUID) row[0]);
+            }
+        }
+        log.info(
+                "Suggestion index built with {} tags, {} languages and {} forum tags",
+                rebuiltTags.index.size(),
+                rebuiltLanguages.index.size(),
+                rebuiltForumTags.index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onVocabularyChanged(VocabularyChangedEvent event) {
+        if (event.getName() == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case TAG:
+                tags.update(event);
+                break;
+            case LANGUAGE:
+                if (!event.isRemoved() || !languageCatalog.isValid(event.getName())) {
+                    languages.update(event);
+                }
+                break;
+            default:
+                forumTags.update(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        if (event.isDeleted()) {
+            tags.release(event.getProjectId());
+            languages.release(event.getProjectId());
+            Set<UUID> discussions = discussionsByProject.remove(event.getProjectId());
+            if (discussions != null) {
+                discussions.forEach(forumTags::release);
+            }
+            return;
+        }
+        tags.use(event.getProjectId(), event.getTags());
+        languages.use(event.getProjectId(), event.getLanguages());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDiscussionChanged(DiscussionChangedEvent event) {
+        if (event.isClosed()) {
+            Set<UUID> discussions = discussionsByProject.get(event.getProjectId());
+            if (discussions != null) {
+                discussions.remove(event.getDiscussionId());
+            }
+            forumTags.release(event.getDiscussionId());
+            return;
+        }
+        discussionsByProject
+                .computeIfAbsent(event.getProjectId(), id -> new HashSet<>())
+                .add(event.getDiscussionId());
+        forumTags.use(event.getDiscussionId(), event.getForumTags());
+    }
+
+    /** The suggestions of one vocabulary and the names each project or discussion is using. */
+    private static final class Vocabulary {
+        private final PrefixIndex index = new PrefixIndex();
+        private final Map<UUID, List<String>> namesById = new HashMap<>();
+
+        /**
+         * Loads the known names and the usage rows, which start with a project or discussion id.
+         */
+        private void load(List<String> names, List<Object[]> usages, int nameColumn) {
+            Map<String, Long> weights = new HashMap<>();
+            names.forEach(name -> weights.putIfAbsent(name, 0L));
+            for (Object[] row : usages) {
+                String name = (String) row[nameColumn];
+                weights.merge(name, 1L, Long::sum);
+                namesById.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add(name);
+            }
+            index.replaceAll(weights);
+        }
+
+        private void update(VocabularyChangedEvent event) {
+            if (event.isRemoved()) {
+                index.remove(event.getName());
+            } else {
+                index.add(event.getName());
+            }
+        }
+
+        private void use(UUID id, List<String> names) {
+            release(id);
+            namesById.put(id, List.copyOf(names));
+            names.forEach(name -> index.adjustWeight(name, 1));
+        }
+
+        private void release(UUID id) {
+            List<String> previous = namesById.remove(id);
+            if (previous != null) {
+                previous.forEach(name -> index.adjustWeight(name, -1));
+            }
+        }
+    }
+}
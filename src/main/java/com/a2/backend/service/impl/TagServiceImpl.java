@@ -1,13 +1,24 @@
 package com.a2.backend.service.impl;
 
+import com.a2.backend.constants.VocabularyType;
 import com.a2.backend.entity.Tag;
-import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.event.VocabularyReleasedEvent;
+import com.a2.backend.exception.VocabularyConflictException;
 import com.a2.backend.repository.TagRepository;
 import com.a2.backend.service.TagService;
+import com.a2.backend.utils.VocabularyInserter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,27 +26,39 @@ public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
 
-    private final ProjectRepository projectRepository;
+    private final VocabularyInserter vocabularyInserter;
 
-    public TagServiceImpl(TagRepository tagRepository, ProjectRepository projectRepository) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TagServiceImpl(
+            TagRepository tagRepository,
+            VocabularyInserter vocabularyInserter,
+            ApplicationEventPublisher eventPublisher) {
         this.tagRepository = tagRepository;
-        this.projectRepository = projectRepository;
+        this.vocabularyInserter = vocabularyInserter;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Reads every existing tag in one query and inserts the missing ones in a single batch, in a
+     * transaction of their own so a tag created concurrently under the same name is reused.
+     */
     @Override
     public List<Tag> findOrCreateTag(List<String> tagsToAdd) {
-        List<Tag> tagList = new ArrayList<>();
-
-        for (String tagName : tagsToAdd) {
-            Optional<Tag> optionalTag = findTagByName(tagName);
-
-            if (optionalTag.isEmpty()) {
-                tagList.add(createTag(tagName));
-            } else {
-                tagList.add(optionalTag.get());
+        Map<String, Tag> tagsByName = findTagsByName(tagsToAdd);
+
+        Set<String> missingNames = new LinkedHashSet<>(tagsToAdd);
+        missingNames.removeAll(tagsByName.keySet());
+        if (!missingNames.isEmpty()) {
+            vocabularyInserter.insertMissing(tagRepository, missingNames, this::createTag);
+            tagsByName.putAll(findTagsByName(missingNames));
+            if (!tagsByName.keySet().containsAll(missingNames)) {
+                throw new VocabularyConflictException(
+                        "Some tags were deleted while being saved, try again");
             }
         }
-        return tagList;
+
+        return tagsToAdd.stream().map(tagsByName::get).collect(Collectors.toList());
     }
 
     @Override
@@ -50,13 +73,21 @@ public class TagServiceImpl implements TagService {
 
     @Override
     public List<Tag> findTagsByNames(List<String> tagsToFind) {
-        List<Tag> tagsFound = new ArrayList<>();
+        Map<String, Tag> tagsByName = findTagsByName(tagsToFind);
+        return tagsToFind.stream()
+                .map(tagsByName::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        for (String tagName : tagsToFind) {
-            Optional<Tag> optionalTag = findTagByName(tagName);
-            optionalTag.ifPresent(tagsFound::add);
+    private Map<String, Tag> findTagsByName(Collection<String> tagNames) {
+        Map<String, Tag> tagsByName = new HashMap<>();
+        if (!tagNames.isEmpty()) {
+            tagRepository
+                    .findByNameIn(new HashSet<>(tagNames))
+                    .forEach(tag -> tagsByName.putIfAbsent(tag.getName(), tag));
         }
-        return tagsFound;
+        return tagsByName;
     }
 
     @Override
@@ -73,13 +104,10 @@ public class TagServiceImpl implements TagService {
 
     @Override
     public void deleteUnusedTags(List<Tag> removedTags) {
-        for (Tag tag : removedTags) {
-            if (projectRepository
-                    .findProjectsByTagName(tag.getName().toUpperCase(Locale.ROOT))
-                    .isEmpty()) {
-                tagRepository.deleteById(tag.getId());
-            }
-        }
+        eventPublisher.publishEvent(
+                new VocabularyReleasedEvent(
+                        VocabularyType.TAG,
+                        removedTags.stream().map(Tag::getId).collect(Collectors.toList())));
     }
 
     @Override
@@ -1,48 +1,96 @@
 package com.a2.backend.service.impl;
 
 import com.a2.backend.constants.PrivacyConstant;
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.ReputationScore;
+import com.a2.backend.entity.Review;
 import com.a2.backend.entity.User;
 import com.a2.backend.exception.*;
 import com.a2.backend.model.*;
+import com.a2.backend.repository.ReputationScoreRepository;
 import com.a2.backend.repository.UserRepository;
+import com.a2.backend.service.MailOutboxService;
 import com.a2.backend.service.MailService;
 import com.a2.backend.service.ProjectService;
+import com.a2.backend.service.RecommendationService;
+import com.a2.backend.service.ReviewService;
 import com.a2.backend.service.UserService;
+import com.a2.backend.utils.ExpiringLruCache;
+import com.a2.backend.utils.LanguageCatalog;
 import com.a2.backend.utils.RandomStringUtils;
 import com.a2.backend.utils.SecurityUtils;
+import java.time.Duration;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
+@Transactional
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
 
+    private final ReputationScoreRepository reputationScoreRepository;
+
     private final ProjectService projectService;
 
+    private final ReviewService reviewService;
+
+    private final RecommendationService recommendationService;
+
     private final MailService mailService;
 
+    private final MailOutboxService mailOutboxService;
+
+    private final EntityManager entityManager;
+
     @Autowired private PasswordEncoder passwordEncoder;
 
-    private final String validLanguageNames =
-            "Java, C, C++, C#, Python, Visual Basic .NET, PHP, JavaScript, TypeScript, Delphi/Object Pascal, Swift, Perl, Ruby, Assembly language, R, Visual Basic, Objective-C, Go, MATLAB, PL/SQL, Scratch, SAS, D, Dart, ABAP, COBOL, Ada, Fortran, Transact-SQL, Lua, Scala, Logo, F#, Lisp, LabVIEW, Prolog, Haskell, Scheme, Groovy, RPG (OS/400), Apex, Erlang, MQL4, Rust, Bash, Ladder Logic, Q, Julia, Alice, VHDL, Awk, (Visual) FoxPro, ABC, ActionScript, APL, AutoLISP, bc, BlitzMax, Bourne shell, C shell, CFML, cg, CL (OS/400), Clipper, Clojure, Common Lisp, Crystal, Eiffel, Elixir, Elm, Emacs Lisp, Forth, Hack, Icon, IDL, Inform, Io, J, Korn shell, Kotlin, Maple, ML, NATURAL, NXT-G, OCaml, OpenCL, OpenEdge ABL, Oz, PL/I, PowerShell, REXX, Ring, S, Smalltalk, SPARK, SPSS, Standard ML, Stata, Tcl, VBScript, Verilog";
+    private static final String LOGGED_USER_ATTRIBUTE =
+            UserServiceImpl.class.getName() + ".loggedUser";
 
-    private final List<String> validLanguageList =
-            new ArrayList<>(Arrays.asList(validLanguageNames.split(", ")));
+    /**
+     * Project lists of the profile seen by its owner, and whole profiles as seen by everyone else,
+     * keyed by user id. Entries are dropped when the user or a project listed in the profile
+     * changes, and again once that transaction completes so a read made before the commit or
+     * rollback is not kept.
+     */
+    private final ExpiringLruCache<UUID, UserProfileDTO> ownProfiles =
+            new ExpiringLruCache<>(512, Duration.ofMinutes(5));
+
+    private final ExpiringLruCache<UUID, UserProfileDTO> publicProfiles =
+            new ExpiringLruCache<>(512, Duration.ofMinutes(5));
+
+    private final LanguageCatalog languageCatalog;
 
     public UserServiceImpl(
             UserRepository userRepository,
+            ReputationScoreRepository reputationScoreRepository,
             @Lazy ProjectService projectService,
-            MailService mailService) {
+            ReviewService reviewService,
+            RecommendationService recommendationService,
+            MailService mailService,
+            MailOutboxService mailOutboxService,
+            LanguageCatalog languageCatalog,
+            EntityManager entityManager) {
         this.userRepository = userRepository;
+        this.reputationScoreRepository = reputationScoreRepository;
         this.projectService = projectService;
+        this.reviewService = reviewService;
+        this.recommendationService = recommendationService;
         this.mailService = mailService;
+        this.mailOutboxService = mailOutboxService;
+        this.languageCatalog = languageCatalog;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -77,6 +125,9 @@ public class UserServiceImpl implements UserService {
         User loggedUser = getLoggedUser();
         projectService.deleteProjectsFromUser(loggedUser);
         userRepository.deleteById(loggedUser.getId());
+        forgetLoggedUser();
+        // Owned projects also disappear from the profiles of their collaborators
+        invalidateAllProfiles();
     }
 
     @Override
@@ -91,10 +142,19 @@ public class UserServiceImpl implements UserService {
                             userUpdateDTO.getNickname()));
         }
 
+        boolean nicknameChanged = !loggedUser.getNickname().equals(userUpdateDTO.getNickname());
         loggedUser.setNickname(userUpdateDTO.getNickname());
         loggedUser.setBiography(userUpdateDTO.getBiography());
         if (userUpdateDTO.getPassword() != null)
             loggedUser.setPassword(passwordEncoder.encode(userUpdateDTO.getPassword()));
+        forgetLoggedUser();
+        if (nicknameChanged) {
+            // Projects show the nickname of their owner, members, reviewed collaborators and
+            // discussion authors, so any cached profile may hold it
+            invalidateAllProfiles();
+        } else {
+            invalidateProfiles(List.of(loggedUser.getId()));
+        }
         return userRepository.save(loggedUser);
     }
 
@@ -102,15 +162,24 @@ public class UserServiceImpl implements UserService {
     public User updatePreferences(PreferencesUpdateDTO preferencesUpdateDTO) {
         User loggedUser = getLoggedUser();
 
+        List<String> preferredLanguages = new ArrayList<>();
         for (String language : preferencesUpdateDTO.getLanguages()) {
-            if (!validLanguageList.contains(language))
-                throw new LanguageNotValidException(
-                        String.format("Language %s is not valid", language));
+            preferredLanguages.add(
+                    languageCatalog
+                            .canonicalName(language)
+                            .orElseThrow(
+                                    () ->
+                                            new LanguageNotValidException(
+                                                    String.format(
+                                                            "Language %s is not valid",
+                                                            language))));
         }
 
-        loggedUser.setPreferredLanguages(preferencesUpdateDTO.getLanguages());
-        loggedUser.setPreferredTags(preferencesUpdateDTO.getTags());
+        loggedUser.setPreferredLanguages(preferredLanguages);
+        loggedUser.setPreferredTags(new ArrayList<>(preferencesUpdateDTO.getTags()));
 
+        forgetLoggedUser();
+        invalidateProfiles(List.of(loggedUser.getId()));
         return userRepository.save(loggedUser);
     }
 
@@ -123,6 +192,8 @@ public class UserServiceImpl implements UserService {
         loggedUser.setTagsPrivacy(userPrivacyDTO.getTagsPrivacy());
         loggedUser.setLanguagesPrivacy(userPrivacyDTO.getLanguagesPrivacy());
 
+        forgetLoggedUser();
+        invalidateProfiles(List.of(loggedUser.getId()));
         return userRepository.save(loggedUser);
     }
 
@@ -130,22 +201,32 @@ public class UserServiceImpl implements UserService {
     public UserProfileDTO getUserProfile(UUID id) {
         Optional<User> loggedUserOptional = getUser();
         if (loggedUserOptional.isPresent() && loggedUserOptional.get().getId().equals(id)) {
+            // The logged user is already loaded, so only the project lists come from the cache
             User loggedUser = loggedUserOptional.get();
+            val projects = ownProfiles.get(id).orElseGet(() -> cacheOwnProjects(loggedUser));
             return UserProfileDTO.builder()
                     .nickname(loggedUser.getNickname())
                     .biography(loggedUser.getBiography())
                     .preferredTags(loggedUser.getPreferredTags())
                     .preferredLanguages(loggedUser.getPreferredLanguages())
-                    .ownedProjects(projectService.getProjectsByOwner(loggedUser))
-                    .collaboratedProjects(projectService.getCollaboratingProjects(loggedUser))
+                    .ownedProjects(projects.getOwnedProjects())
+                    .collaboratedProjects(projects.getCollaboratedProjects())
                     .reputation(loggedUser.getReputation())
                     .build();
         }
 
-        if (userRepository.findById(id).isEmpty())
-            throw new UserNotFoundException(String.format("There is no user with id %s", id));
+        val cachedProfile = publicProfiles.get(id);
+        if (cachedProfile.isPresent()) {
+            return cachedProfile.get();
+        }
 
-        User user = userRepository.getById(id);
+        User user =
+                userRepository
+                        .findWithPreferencesById(id)
+                        .orElseThrow(
+                                () ->
+                                        new UserNotFoundException(
+                                                String.format("There is no user with id %s", id)));
 
         val userProfile =
                 UserProfileDTO.builder()
@@ -155,10 +236,10 @@ public class UserServiceImpl implements UserService {
                         .build();
 
         if (user.getTagsPrivacy().equals(PrivacyConstant.PUBLIC))
-            userProfile.setPreferredTags(user.getPreferredTags());
+            userProfile.setPreferredTags(copyOf(user.getPreferredTags()));
 
         if (user.getLanguagesPrivacy().equals(PrivacyConstant.PUBLIC))
-            userProfile.setPreferredLanguages(user.getPreferredLanguages());
+            userProfile.setPreferredLanguages(copyOf(user.getPreferredLanguages()));
 
         if (user.getOwnedProjectsPrivacy().equals(PrivacyConstant.PUBLIC))
             userProfile.setOwnedProjects(projectService.getProjectsByOwner(user));
@@ -166,20 +247,109 @@ public class UserServiceImpl implements UserService {
         if (user.getCollaboratedProjectsPrivacy().equals(PrivacyConstant.PUBLIC))
             userProfile.setCollaboratedProjects(projectService.getCollaboratingProjects(user));
 
+        publicProfiles.put(id, userProfile);
         return userProfile;
     }
 
+    private UserProfileDTO cacheOwnProjects(User user) {
+        val projects =
+                UserProfileDTO.builder()
+                        .ownedProjects(projectService.getProjectsByOwner(user))
+                        .collaboratedProjects(projectService.getCollaboratingProjects(user))
+                        .build();
+        ownProfiles.put(user.getId(), projects);
+        return projects;
+    }
+
+    @Override
+    public void invalidateProfiles(Collection<UUID> userIds) {
+        forgetNowAndAfterCompletion(() -> forgetProfiles(userIds));
+    }
+
+    private void invalidateAllProfiles() {
+        forgetNowAndAfterCompletion(
+                () -> {
+                    ownProfiles.invalidateAll();
+                    publicProfiles.invalidateAll();
+                });
+    }
+
+    private static void forgetNowAndAfterCompletion(Runnable forget) {
+        forget.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            forget.run();
+                        }
+                    });
+        }
+    }
+
+    private void forgetProfiles(Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            ownProfiles.invalidate(userId);
+            publicProfiles.invalidate(userId);
+        }
+    }
+
+    // Cached profiles must not share the collections of a managed entity
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
     @Override
     public User getLoggedUser() {
         String email =
                 SecurityUtils.getCurrentUserLogin()
                         .orElseThrow(() -> new UserNotLoggedIn("You must login first"));
-        return userRepository
-                .findByEmail(email)
-                .orElseThrow(
-                        () ->
-                                new UserNotFoundException(
-                                        String.format("No user found for email: %s", email)));
+        User rememberedUser = rememberedLoggedUser();
+        if (rememberedUser != null && rememberedUser.getEmail().equals(email)) {
+            return rememberedUser;
+        }
+        User loggedUser =
+                userRepository
+                        .findByEmail(email)
+                        .orElseThrow(
+                                () ->
+                                        new UserNotFoundException(
+                                                String.format(
+                                                        "No user found for email: %s", email)));
+        rememberLoggedUser(loggedUser);
+        return loggedUser;
+    }
+
+    /**
+     * Returns the user resolved earlier in the current request, as long as it is still managed by
+     * the current persistence context; a detached copy would not compare equal to the users
+     * referenced by freshly loaded entities.
+     */
+    private User rememberedLoggedUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object user =
+                attributes.getAttribute(LOGGED_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user instanceof User && entityManager.contains(user)) {
+            return (User) user;
+        }
+        return null;
+    }
+
+    private void rememberLoggedUser(User user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(LOGGED_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void forgetLoggedUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(LOGGED_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
     }
 
     @Override
@@ -246,51 +416,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<ProjectDTO> getPreferredProjects() {
-
-        Function<List<ProjectDTO>, Optional<ProjectDTO>> getRandomProject =
-                projects -> {
-                    if (projects.isEmpty()) {
-                        return Optional.empty();
-                    } else {
-                        return Optional.of(projects.remove(new Random().nextInt(projects.size())));
-                    }
-                };
-
-        List<ProjectDTO> projects = new ArrayList<>();
-        List<ProjectDTO> featured = projectService.getFeaturedProject();
-
-        for (int i = 0; i < 2; i++) {
-            getRandomProject.apply(featured).map(projects::add);
-        }
-
-        List<ProjectDTO> preferredProjects =
-                getUser()
-                        .map(
-                                user -> {
-                                    ProjectSearchDTO projectSearchDTO =
-                                            ProjectSearchDTO.builder()
-                                                    .tags(user.getPreferredTags())
-                                                    .languages(user.getPreferredLanguages())
-                                                    .build();
-                                    return projectService
-                                            .searchProjectsByFilter(projectSearchDTO)
-                                            .getProjects();
-                                })
-                        .orElseGet(projectService::getAllProjects);
-
-        for (int i = 0; i < 4; i++) {
-            getRandomProject.apply(preferredProjects).map(projects::add);
-        }
-
-        val filteredProjects =
-                projectService.getAllProjects().stream()
-                        .filter(p -> !projects.contains(p))
-                        .collect(Collectors.toList());
-
-        while (projects.size() < 6 && !filteredProjects.isEmpty()) {
-            getRandomProject.apply(filteredProjects).map(projects::add);
-        }
-        return new ArrayList<>(projects);
+        return SecurityUtils.getCurrentUserLogin()
+                .flatMap(userRepository::findWithPreferencesByEmail)
+                .map(
+                        user ->
+                                recommendationService.getRecommendedProjects(
+                                        user.getPreferredTags(), user.getPreferredLanguages()))
+                .orElseGet(
+                        () -> recommendationService.getRecommendedProjects(List.of(), List.of()));
     }
 
     @Override
@@ -305,59 +438,90 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User updateReputation(UUID id) {
-        List<ReviewDTO> latestReviewForEveryProject = new ArrayList<>();
-
-        User user = userRepository.getById(id);
-        List<ProjectDTO> collaboratingProjects = projectService.getCollaboratingProjects(user);
-
-        for (ProjectDTO collaboratingProject : collaboratingProjects) {
-            List<ReviewDTO> reviewsForProject =
-                    collaboratingProject.getReviews().stream()
-                            .filter(r -> r.getCollaborator().getId().equals(id))
-                            .collect(Collectors.toList());
-            if (reviewsForProject.isEmpty()) continue;
-            if (reviewsForProject.size() > 1) {
-                reviewsForProject.sort(Comparator.comparing(ReviewDTO::getDate));
-                Collections.reverse(reviewsForProject);
-            }
-            latestReviewForEveryProject.add(reviewsForProject.get(0));
-        }
+        return applyReputation(userRepository.getById(id));
+    }
 
-        double reputation =
-                latestReviewForEveryProject.stream()
-                        .mapToDouble(ReviewDTO::getScore)
-                        .average()
-                        .orElse(0);
+    /**
+     * Replaces the score the collaborator had on the project with the one of the review, unless a
+     * newer review was already counted, and adjusts the running average of the collaborator.
+     */
+    @Override
+    public User recordReview(Project project, Review review) {
+        User collaborator = review.getCollaborator();
+        val scoreOptional =
+                reputationScoreRepository.findByCollaboratorIdAndProjectId(
+                        collaborator.getId(), project.getId());
+
+        if (scoreOptional.isEmpty()) {
+            reputationScoreRepository.save(
+                    ReputationScore.builder()
+                            .collaborator(collaborator)
+                            .project(project)
+                            .score(review.getScore())
+                            .date(review.getDate())
+                            .build());
+            return addReputationScore(collaborator, review.getScore(), 1);
+        }
 
-        user.setReputation(reputation);
-        return userRepository.save(user);
+        val score = scoreOptional.get();
+        if (review.getDate().isBefore(score.getDate())) {
+            return collaborator;
+        }
+        long delta = review.getScore() - score.getScore();
+        score.setScore(review.getScore());
+        score.setDate(review.getDate());
+        reputationScoreRepository.save(score);
+        return addReputationScore(collaborator, delta, 0);
     }
 
     @Override
-    public List<ReviewDTO> getUserReviews(UUID id) {
-        List<ReviewDTO> reviews = new ArrayList<>();
+    public void discardReputationScores(Collection<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        List<ReputationScore> scores = reputationScoreRepository.findAllByProjectIds(projectIds);
+        Map<UUID, List<ReputationScore>> scoresByCollaborator = new HashMap<>();
+        for (ReputationScore score : scores) {
+            scoresByCollaborator
+                    .computeIfAbsent(score.getCollaborator().getId(), key -> new ArrayList<>())
+                    .add(score);
+        }
+        reputationScoreRepository.deleteAll(scores);
+        for (List<ReputationScore> collaboratorScores : scoresByCollaborator.values()) {
+            addReputationScore(
+                    collaboratorScores.get(0).getCollaborator(),
+                    -collaboratorScores.stream().mapToLong(ReputationScore::getScore).sum(),
+                    -collaboratorScores.size());
+        }
+    }
 
-        val user =
-                userRepository
-                        .findById(id)
-                        .orElseThrow(
-                                () ->
-                                        new UserNotFoundException(
-                                                String.format("User with id %s not found ", id)));
-        List<ProjectDTO> collaboratingProjects = projectService.getCollaboratingProjects(user);
-
-        for (ProjectDTO collaboratingProject : collaboratingProjects) {
-            List<ReviewDTO> reviewsForProject =
-                    collaboratingProject.getReviews().stream()
-                            .filter(r -> r.getCollaborator().getId().equals(id))
-                            .collect(Collectors.toList());
-            reviews.addAll(reviewsForProject);
+    /**
+     * Applies the change in the database rather than on the loaded user, whose totals may be stale
+     * if another review of the same collaborator committed meanwhile. The update locks the row, so
+     * the reloaded totals stay current while the average is set.
+     */
+    private User addReputationScore(User user, long delta, int count) {
+        userRepository.addReputationScore(user.getId(), delta, count);
+        if (entityManager.contains(user)) {
+            entityManager.refresh(user);
+            return applyReputation(user);
         }
+        return applyReputation(userRepository.findById(user.getId()).orElse(user));
+    }
 
-        reviews.sort(Comparator.comparing(ReviewDTO::getDate));
-        Collections.reverse(reviews);
+    private User applyReputation(User user) {
+        int count = user.getReputationScoreCount();
+        user.setReputation(count == 0 ? 0 : (double) user.getReputationScoreSum() / count);
+        invalidateProfiles(List.of(user.getId()));
+        return userRepository.save(user);
+    }
 
-        return reviews;
+    @Override
+    public ReviewResultDTO getUserReviews(UUID id, int page, int size) {
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException(String.format("User with id %s not found ", id));
+        }
+        return reviewService.getCollaboratorReviews(id, page, size);
     }
 
     @Override
@@ -365,7 +529,14 @@ public class UserServiceImpl implements UserService {
             NotificationUpdatePreferencDTO notificationUpdatePreferencDTO) {
         User loggedUser = getLoggedUser();
         loggedUser.setAllowsNotifications(notificationUpdatePreferencDTO.isAllowsNotifications());
+        if (notificationUpdatePreferencDTO.getDigestInterval() != null) {
+            loggedUser.setDigestInterval(notificationUpdatePreferencDTO.getDigestInterval());
+        }
         userRepository.save(loggedUser);
+        if (!loggedUser.isAllowsNotifications()) {
+            // Mails held for the digest were queued while notifications were still allowed
+            mailOutboxService.discardPendingMails(loggedUser.getEmail());
+        }
         return loggedUser.isAllowsNotifications();
     }
 }
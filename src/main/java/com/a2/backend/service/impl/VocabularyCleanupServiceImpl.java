@@ -0,0 +1,194 @@
+package com.a2.backend.service.impl;
+
+import com.a2.backend.constants.VocabularyType;
+import com.a2.backend.event.VocabularyChangedEvent;
+import com.a2.backend.event.VocabularyReleasedEvent;
+import com.a2.backend.repository.ForumTagRepository;
+import com.a2.backend.repository.LanguageRepository;
+import com.a2.backend.repository.TagRepository;
+import com.a2.backend.service.VocabularyCleanupService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes tags, forum tags and languages that no project or discussion uses. Usage is checked with
+ * an EXISTS query in the database instead of loading the projects, and the rows are deleted in
+ * bulk. Released vocabulary is deleted by a worker once the update that released it commits, and a
+ * scheduled sweep catches whatever was left behind, e.g. by deleted projects. The sweep skips rows
+ * younger than the grace period: another request may have inserted them and not linked them yet.
+ */
+@Slf4j
+@Service
+public class VocabularyCleanupServiceImpl implements VocabularyCleanupService {
+
+    private final TagRepository tagRepository;
+    private final LanguageRepository languageRepository;
+    private final ForumTagRepository forumTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor vocabularyCleanupExecutor;
+    private final int batchSize;
+    private final Duration gracePeriod;
+
+    public VocabularyCleanupServiceImpl(
+            TagRepository tagRepository,
+            LanguageRepository languageRepository,
+            ForumTagRepository forumTagRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("vocabularyCleanupExecutor") TaskExecutor vocabularyCleanupExecutor,
+            @Value("${vocabulary.cleanup.batch-size:500}") int batchSize,
+            @Value("${vocabulary.cleanup.grace-period:600000}") long gracePeriod) {
+        this.tagRepository = tagRepository;
+        this.languageRepository = languageRepository;
+        this.forumTagRepository = forumTagRepository;
+        this.eventPublisher = eventPublisher;
+        // Also used after another transaction commits, which must not be joined
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.vocabularyCleanupExecutor = vocabularyCleanupExecutor;
+        this.batchSize = batchSize;
+        this.gracePeriod = Duration.ofMillis(gracePeriod);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVocabularyReleased(VocabularyReleasedEvent event) {
+        if (event.getIds().isEmpty()) {
+            return;
+        }
+        try {
+            vocabularyCleanupExecutor.execute(() -> deleteReleased(event));
+        } catch (TaskRejectedException e) {
+            // Queue is full, the sweep deletes these later
+        }
+    }
+
+    /**
+     * Failures are only logged: the update has already been committed, and the sweep will retry.
+     */
+    private void deleteReleased(VocabularyReleasedEvent event) {
+        try {
+            // No grace period: these rows were linked until the update that released them committed
+            LocalDateTime createdBefore = LocalDateTime.now();
+            deleteUnused(
+                    event.getType(),
+                    () -> findUnused(event.getType(), event.getIds(), createdBefore));
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Could not delete released {} vocabulary, leaving it to the sweep",
+                    event.getType(),
+                    e);
+        }
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${vocabulary.cleanup.sweep-delay:3600000}",
+            fixedDelayString = "${vocabulary.cleanup.sweep-delay:3600000}")
+    public void sweepUnused() {
+        long tags = sweep(VocabularyType.TAG);
+        long languages = sweep(VocabularyType.LANGUAGE);
+        long forumTags = sweep(VocabularyType.FORUM_TAG);
+        log.info(
+                "Swept {} tags, {} languages and {} forum tags no longer in use",
+                tags,
+                languages,
+                forumTags);
+    }
+
+    private long sweep(VocabularyType type) {
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        LocalDateTime createdBefore = LocalDateTime.now().minus(gracePeriod);
+        long swept = 0;
+        int deleted;
+        do {
+            try {
+                deleted = deleteUnused(type, () -> findUnused(type, createdBefore, firstBatch));
+            } catch (DataAccessException e) {
+                // Something started using a row of the batch meanwhile, try again on the next run
+                log.warn("Stopped sweeping {} vocabulary", type, e);
+                break;
+            }
+            swept += deleted;
+        } while (deleted == batchSize);
+        return swept;
+    }
+
+    /**
+     * Deletes the (id, name) rows found in one transaction and reports each name as removed, since
+     * bulk deletes skip the entity listeners.
+     */
+    private int deleteUnused(VocabularyType type, Supplier<List<Object[]>> findUnused) {
+        return transactionTemplate.execute(
+                status -> {
+                    List<Object[]> unused = findUnused.get();
+                    if (unused.isEmpty()) {
+                        return 0;
+                    }
+                    List<UUID> ids =
+                            unused.stream().map(row -> (UUID) row[0]).collect(Collectors.toList());
+                    int deleted = deleteByIds(type, ids);
+                    unused.forEach(
+                            row ->
+                                    eventPublisher.publishEvent(
+                                            VocabularyChangedEvent.removed(type, (String) row[1])));
+                    return deleted;
+                });
+    }
+
+    private List<Object[]> findUnused(
+            VocabularyType type, Collection<UUID> ids, LocalDateTime createdBefore) {
+        switch (type) {
+            case TAG:
+                return tagRepository.findUnusedIn(ids, createdBefore);
+            case LANGUAGE:
+                return languageRepository.findUnusedIn(ids, createdBefore);
+            default:
+                return forumTagRepository.findUnusedIn(ids, createdBefore);
+        }
+    }
+
+    private List<Object[]> findUnused(
+            VocabularyType type, LocalDateTime createdBefore, Pageable pageable) {
+        switch (type) {
+            case TAG:
+                return tagRepository.findUnused(createdBefore, pageable);
+            case LANGUAGE:
+                return languageRepository.findUnused(createdBefore, pageable);
+            default:
+                return forumTagRepository.findUnused(createdBefore, pageable);
+        }
+    }
+
+    private int deleteByIds(VocabularyType type, List<UUID> ids) {
+        switch (type) {
+            case TAG:
+                return tagRepository.deleteByIds(ids);
+            case LANGUAGE:
+                return languageRepository.deleteByIds(ids);
+            default:
+                return forumTagRepository.deleteByIds(ids);
+        }
+    }
+}
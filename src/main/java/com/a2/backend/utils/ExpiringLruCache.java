@@ -0,0 +1,86 @@
+package com.a2.backend.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Small thread safe cache that keeps at most {@code maxSize} entries, evicting the least recently
+ * used one first, and forgets every entry {@code timeToLive} after it was stored.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<K, Timed<V>> entries;
+
+    public ExpiringLruCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<K, Timed<V>> eldest) {
+                        return size() > ExpiringLruCache.this.maxSize;
+                    }
+                };
+    }
+
+    public synchronized Optional<V> get(K key) {
+        Timed<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.expiresAt)) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Timed<>(value, clock.instant().plus(timeToLive)));
+    }
+
+    /** Stores an entry that must not outlive {@code expiresAt}, even if the TTL is longer. */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        Instant defaultExpiry = clock.instant().plus(timeToLive);
+        Instant expiry = expiresAt.isBefore(defaultExpiry) ? expiresAt : defaultExpiry;
+        entries.put(key, new Timed<>(value, expiry));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Not called Entry, which inside the LinkedHashMap subclass would resolve to Map.Entry
+    private static final class Timed<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        private Timed(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.a2.backend.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+/**
+ * In memory inverted index of documents made of a title and a body. Searches rank documents with
+ * BM25, counting title terms more than body terms, and return a highlighted snippet of each hit.
+ * Terms are compared ignoring case and accents. Any number of threads may search while another one
+ * updates the index.
+ */
+public class FullTextIndex<K> {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 3;
+
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int SNIPPET_LEAD = 40;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Document> documents = new HashMap<>();
+    private final Map<String, Map<K, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    /** Indexes the document, replacing a previous version stored under the same key. */
+    public void put(K key, String title, String body) {
+        Document document = new Document(nullToEmpty(title), nullToEmpty(body));
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            documents.put(key, document);
+            totalLength += document.length;
+            document.frequencies.forEach(
+                    (term, frequency) ->
+                            postings.computeIfAbsent(term, t -> new HashMap<>())
+                                    .put(key, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Returns the hits ranked {@code offset} to {@code offset + limit}, best first. */
+    public Result<K> search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new Result<>(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<K, Double> scores = score(terms);
+            int wanted = Math.min(offset + limit, scores.size());
+            if (offset >= wanted) {
+                return new Result<>(List.of(), scores.size());
+            }
+
+            PriorityQueue<Map.Entry<K, Double>> best =
+                    new PriorityQueue<>(wanted, Map.Entry.comparingByValue());
+            for (Map.Entry<K, Double> entry : scores.entrySet()) {
+                if (best.size() < wanted) {
+                    best.add(entry);
+                } else if (entry.getValue() > best.peek().getValue()) {
+                    best.poll();
+                    best.add(entry);
+                }
+            }
+            List<Map.Entry<K, Double>> ranked = new ArrayList<>(best);
+            ranked.sort(Map.Entry.<K, Double>comparingByValue(Comparator.reverseOrder()));
+
+            List<Hit<K>> hits = new ArrayList<>(wanted - offset);
+            for (Map.Entry<K, Double> entry : ranked.subList(offset, wanted)) {
+                Document document = documents.get(entry.getKey());
+                hits.add(
+                        new Hit<>(
+                                entry.getKey(),
+                                entry.getValue(),
+                                document.title,
+                                highlight(document, terms)));
+            }
+            return new Result<>(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<K, Double> score(Set<String> terms) {
+        Map<K, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+        for (String term : terms) {
+            Map<K, Integer> matches = postings.get(term);
+            if (matches == null) {
+                continue;
+            }
+            double idf =
+                    Math.log(
+                            1 + (documents.size() - matches.size() + 0.5) / (matches.size() + 0.5));
+            matches.forEach(
+                    (key, frequency) -> {
+                        double norm = K1 * (1 - B + B * documents.get(key).length / averageLength);
+                        double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                        scores.merge(key, score, Double::sum);
+                    });
+        }
+        return scores;
+    }
+
+    private void removeLocked(K key) {
+        Document document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length;
+        for (String term : document.frequencies.keySet()) {
+            Map<K, Integer> matches = postings.get(term);
+            matches.remove(key);
+            if (matches.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Cuts a window of the body, or of the title when the body has no match, starting a little
+     * before the first matching word, and wraps every matching word in {@code <em>} tags. The rest
+     * of the text is HTML escaped.
+     */
+    private static String highlight(Document document, Set<String> terms) {
+        String text = document.body;
+        int first = firstMatch(text, terms);
+        if (first < 0) {
+            text = document.title;
+            first = Math.max(firstMatch(text, terms), 0);
+        }
+
+        int start = first <= SNIPPET_LEAD ? 0 : text.lastIndexOf(' ', first - SNIPPET_LEAD) + 1;
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        if (end < text.length() && text.lastIndexOf(' ', end) > first) {
+            end = text.lastIndexOf(' ', end);
+        }
+
+        StringBuilder snippet = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            snippet.append("…");
+        }
+        Matcher matcher = WORD.matcher(text).region(start, end);
+        int written = start;
+        while (matcher.find()) {
+            if (terms.contains(normalize(matcher.group()))) {
+                appendEscaped(snippet, text, written, matcher.start());
+                snippet.append("<em>");
+                appendEscaped(snippet, text, matcher.start(), matcher.end());
+                snippet.append("</em>");
+                written = matcher.end();
+            }
+        }
+        appendEscaped(snippet, text, written, end);
+        if (end < text.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    private static int firstMatch(String text, Set<String> terms) {
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            if (terms.contains(normalize(matcher.group()))) {
+                return matcher.start();
+            }
+        }
+        return -1;
+    }
+
+    private static void appendEscaped(StringBuilder builder, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    builder.append("&lt;");
+                    break;
+                case '>':
+                    builder.append("&gt;");
+                    break;
+                case '&':
+                    builder.append("&amp;");
+                    break;
+                case '"':
+                    builder.append("&quot;");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            tokens.add(normalize(matcher.group()));
+        }
+        return tokens;
+    }
+
+    private static String normalize(String word) {
+        String stripped =
+                MARKS.matcher(Normalizer.normalize(word, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    private static final class Document {
+        private final String title;
+        private final String body;
+        private final int length;
+        private final Map<String, Integer> frequencies = new HashMap<>();
+
+        private Document(String title, String body) {
+            this.title = title;
+            this.body = body;
+            List<String> titleTerms = tokenize(title);
+            List<String> bodyTerms = tokenize(body);
+            titleTerms.forEach(term -> frequencies.merge(term, TITLE_BOOST, Integer::sum));
+            bodyTerms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            this.length = titleTerms.size() * TITLE_BOOST + bodyTerms.size();
+        }
+    }
+
+    @Getter
+    public static final class Result<K> {
+        private final List<Hit<K>> hits;
+        private final int total;
+
+        private Result(List<Hit<K>> hits, int total) {
+            this.hits = hits;
+            this.total = total;
+        }
+    }
+
+    @Getter
+    public static final class Hit<K> {
+        private final K key;
+        private final double score;
+        private final String title;
+        private final String highlight;
+
+        private Hit(K key, double score, String title, String highlight) {
+            this.key = key;
+            this.score = score;
+            this.title = title;
+            this.highlight = highlight;
+        }
+    }
+}
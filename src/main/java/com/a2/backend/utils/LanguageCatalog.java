@@ -0,0 +1,99 @@
+package com.a2.backend.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * The programming languages a project or a user may pick, read once from {@code languages.txt}.
+ * Names are matched ignoring case and always handed back in their canonical spelling.
+ */
+@Component
+public class LanguageCatalog {
+
+    private static final String RESOURCE = "languages.txt";
+
+    private final List<String> names;
+
+    private final Map<String, String> namesByKey = new HashMap<>();
+
+    private final byte[] jsonBody;
+
+    private final String eTag;
+
+    public LanguageCatalog() {
+        this(readNames());
+    }
+
+    public LanguageCatalog(List<String> names) {
+        this.names = List.copyOf(names);
+        for (String name : this.names) {
+            if (namesByKey.putIfAbsent(key(name), name) != null) {
+                throw new IllegalArgumentException(
+                        String.format("Language %s is listed twice", name));
+            }
+        }
+        try {
+            this.jsonBody = new ObjectMapper().writeValueAsBytes(this.names);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the language catalog", e);
+        }
+        this.eTag = "\"" + DigestUtils.md5DigestAsHex(jsonBody) + "\"";
+    }
+
+    /** Every valid language, in catalog order. The list is immutable. */
+    public List<String> getNames() {
+        return names;
+    }
+
+    public boolean isValid(String name) {
+        return name != null && namesByKey.containsKey(key(name));
+    }
+
+    /** Returns the catalog spelling of a language, e.g. "Python" for "PYTHON". */
+    public Optional<String> canonicalName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(namesByKey.get(key(name)));
+    }
+
+    /** The names serialized as a JSON array, computed once; callers must not modify it. */
+    public byte[] getJsonBody() {
+        return jsonBody;
+    }
+
+    /** Strong entity tag of {@link #getJsonBody()}, quoted as sent in HTTP headers. */
+    public String getETag() {
+        return eTag;
+    }
+
+    private static String key(String name) {
+        return name.strip().toUpperCase(Locale.ROOT);
+    }
+
+    private static List<String> readNames() {
+        try (BufferedReader reader =
+                new BufferedReader(
+                        new InputStreamReader(
+                                new ClassPathResource(RESOURCE).getInputStream(),
+                                StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.a2.backend.utils;
+
+import lombok.Getter;
+
+/**
+ * HTML mail with a fixed subject whose body has {@code {}} placeholders. The layout around the body
+ * is rendered once, so filling in a mail only joins the precomputed parts with the values.
+ */
+public final class MailTemplate {
+
+    public static final String HEADER_CONTENT_ID = "id1";
+
+    @Getter private final String subject;
+    private final String[] parts;
+    private final int partsLength;
+
+    private MailTemplate(String subject, String html) {
+        this.subject = subject;
+        this.parts = html.split("\\{}", -1);
+        int length = 0;
+        for (String part : parts) {
+            length += part.length();
+        }
+        this.partsLength = length;
+    }
+
+    public static MailTemplate of(String subject, String body) {
+        return new MailTemplate(
+                subject,
+                "<img src= 'cid:"
+                        + HEADER_CONTENT_ID
+                        + "' height= 50 width= auto> <br> <h2>"
+                        + subject
+                        + "</h2>"
+                        + "<p>"
+                        + body
+                        + "Best regards,<br>A2</p>");
+    }
+
+    /** Fills the placeholders in order with the given values. */
+    public String render(Object... values) {
+        if (values.length != parts.length - 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Template expects %d values but got %d",
+                            parts.length - 1, values.length));
+        }
+        StringBuilder html = new StringBuilder(partsLength + 64 * values.length);
+        html.append(parts[0]);
+        for (int i = 0; i < values.length; i++) {
+            html.append(values[i]).append(parts[i + 1]);
+        }
+        return html.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.a2.backend.utils;
+
+/** Utility class for paged results. */
+public final class PageUtils {
+
+    private PageUtils() {}
+
+    /**
+     * Get the index of the last page, which paged results return as {@code pageAmount}.
+     *
+     * @return the index of the last page, 0 when there are no results.
+     */
+    public static int lastPageIndex(long resultAmount, int pageSize) {
+        return resultAmount == 0 ? 0 : (int) ((resultAmount - 1) / pageSize);
+    }
+}
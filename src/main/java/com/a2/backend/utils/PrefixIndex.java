@@ -0,0 +1,182 @@
+package com.a2.backend.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Autocomplete index over a vocabulary of names, each with a popularity weight. Every word of a
+ * name is a possible start of a match, so "lea" finds "Machine Learning".
+ *
+ * <p>Lookups read an immutable sorted array of keys and never lock. Adding or removing a name
+ * rebuilds that array under a lock; weight changes only touch the name's counter.
+ */
+public class PrefixIndex {
+
+    private static final Comparator<Map.Entry<String, Long>> BY_POPULARITY =
+            Map.Entry.<String, Long>comparingByValue()
+                    .reversed()
+                    .thenComparing(Map.Entry.comparingByKey());
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private volatile Key[] keys = new Key[0];
+
+    public synchronized void add(String name) {
+        if (!entries.containsKey(name)) {
+            entries.put(name, new Entry(name));
+            rebuildKeys();
+        }
+    }
+
+    /** Replaces the whole vocabulary at once, which is cheaper than adding names one by one. */
+    public synchronized void replaceAll(Map<String, Long> weightsByName) {
+        entries.clear();
+        weightsByName.forEach(
+                (name, weight) -> {
+                    Entry entry = new Entry(name);
+                    entry.weight.set(weight);
+                    entries.put(name, entry);
+                });
+        rebuildKeys();
+    }
+
+    public synchronized void remove(String name) {
+        if (entries.remove(name) != null) {
+            rebuildKeys();
+        }
+    }
+
+    /**
+     * Changes the weight of a name by {@code delta}. Unknown names are added when the weight grows,
+     * and ignored otherwise so a late decrement cannot bring back a removed name.
+     */
+    public synchronized void adjustWeight(String name, long delta) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            if (delta <= 0) {
+                return;
+            }
+            add(name);
+            entry = entries.get(name);
+        }
+        entry.weight.addAndGet(delta);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? 0 : entry.getWeight();
+    }
+
+    /**
+     * Returns at most {@code limit} names having a word that starts with {@code prefix}, ignoring
+     * case, the most popular first and ties in alphabetical order.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+        String normalizedPrefix = normalize(prefix.strip());
+        Key[] snapshot = keys;
+
+        // Weights are read once per name so concurrent updates cannot break the heap ordering
+        PriorityQueue<Map.Entry<String, Long>> best =
+                new PriorityQueue<>(limit + 1, BY_POPULARITY.reversed());
+        Set<Entry> seen = new HashSet<>();
+        for (int i = lowerBound(snapshot, normalizedPrefix);
+                i < snapshot.length && snapshot[i].text.startsWith(normalizedPrefix);
+                i++) {
+            Entry entry = snapshot[i].entry;
+            if (seen.add(entry)) {
+                best.add(Map.entry(entry.name, entry.getWeight()));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<String> names = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            names.add(best.poll().getKey());
+        }
+        Collections.reverse(names);
+        return names;
+    }
+
+    private void rebuildKeys() {
+        List<Key> rebuilt = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            String text = normalize(entry.name);
+            for (int i = 0; i < text.length(); i++) {
+                if (isWordStart(text, i)) {
+                    rebuilt.add(new Key(text.substring(i), entry));
+                }
+            }
+        }
+        Key[] sorted = rebuilt.toArray(new Key[0]);
+        Arrays.sort(sorted, Comparator.comparing(key -> key.text));
+        keys = sorted;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        if (index == 0) {
+            return true;
+        }
+        return Character.isLetterOrDigit(text.charAt(index))
+                && !Character.isLetterOrDigit(text.charAt(index - 1));
+    }
+
+    private static int lowerBound(Key[] sorted, String prefix) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle].text.compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final AtomicLong weight = new AtomicLong();
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        private long getWeight() {
+            return weight.get();
+        }
+    }
+
+    private static final class Key {
+        private final String text;
+        private final Entry entry;
+
+        private Key(String text, Entry entry) {
+            this.text = text;
+            this.entry = entry;
+        }
+    }
+}
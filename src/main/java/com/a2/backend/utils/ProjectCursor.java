@@ -0,0 +1,47 @@
+package com.a2.backend.utils;
+
+import com.a2.backend.entity.Project;
+import com.a2.backend.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Opaque position in the project listing, made of the (title, id) sort key of the last project a
+ * client received. Clients must pass it back untouched.
+ */
+@Getter
+public final class ProjectCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final UUID id;
+    private final String title;
+
+    private ProjectCursor(UUID id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public static String encode(Project project) {
+        return encode(project.getId(), project.getTitle());
+    }
+
+    public static String encode(UUID id, String title) {
+        String key = id + SEPARATOR + title;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProjectCursor decode(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = key.split(SEPARATOR, 2);
+            return new ProjectCursor(UUID.fromString(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException(String.format("Cursor %s is not valid", cursor));
+        }
+    }
+}
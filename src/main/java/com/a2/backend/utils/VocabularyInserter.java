@@ -0,0 +1,57 @@
+package com.a2.backend.utils;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stores new tags, forum tags and languages in a transaction of their own. A name stored at the
+ * same time by another request is skipped there, so it never fails the caller's transaction, and
+ * nothing else pending in the caller's persistence context is flushed along with the rows.
+ */
+@Component
+public class VocabularyInserter {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public VocabularyInserter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Inserts a row per name, in a single batch unless some name is already taken; then the names
+     * are inserted one by one and the taken ones skipped. Callers read the rows back afterwards.
+     */
+    public <T> void insertMissing(
+            JpaRepository<T, UUID> repository,
+            Collection<String> names,
+            Function<String, T> create) {
+        if (names.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status ->
+                            repository.saveAllAndFlush(
+                                    names.stream().map(create).collect(Collectors.toList())));
+        } catch (DataIntegrityViolationException e) {
+            for (String name : names) {
+                try {
+                    transactionTemplate.executeWithoutResult(
+                            status -> repository.saveAndFlush(create.apply(name)));
+                } catch (DataIntegrityViolationException alreadyStored) {
+                    // Stored by another request meanwhile, the caller reads that row
+                }
+            }
+        }
+    }
+}
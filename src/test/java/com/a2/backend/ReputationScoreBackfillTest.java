@@ -0,0 +1,94 @@
+package com.a2.backend;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.entity.Review;
+import com.a2.backend.entity.User;
+import com.a2.backend.model.ProjectCreateDTO;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.repository.ReputationScoreRepository;
+import com.a2.backend.repository.UserRepository;
+import com.a2.backend.service.ProjectService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ReputationScoreBackfillTest extends AbstractTest {
+
+    @Autowired private ReputationScoreBackfill reputationScoreBackfill;
+
+    @Autowired private ProjectService projectService;
+
+    @Autowired private ProjectRepository projectRepository;
+
+    @Autowired private ReputationScoreRepository reputationScoreRepository;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    @WithMockUser(username = "some@email.com")
+    void Test001_ReputationScoreBackfillGivenReviewsWithoutScoresWhenBackfillingThenLatestCount() {
+        userRepository.save(User.builder().nickname("owner").email("some@email.com").build());
+        // A database upgraded with reviews but no scores, and a reputation the scores replace
+        User collaborator =
+                userRepository.save(
+                        User.builder()
+                                .nickname("collaborator")
+                                .email("other@email.com")
+                                .reputation(1)
+                                .build());
+        val project =
+                projectService.createProject(
+                        ProjectCreateDTO.builder()
+                                .title("Project title")
+                                .description("description")
+                                .links(List.of("link1"))
+                                .tags(List.of("tag1"))
+                                .forumTags(List.of("help"))
+                                .languages(List.of("Java"))
+                                .build());
+        LocalDateTime now = LocalDateTime.now();
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(
+                        status -> {
+                            val storedProject = projectRepository.findById(project.getId()).get();
+                            storedProject
+                                    .getReviews()
+                                    .addAll(
+                                            List.of(
+                                                    Review.builder()
+                                                            .collaborator(collaborator)
+                                                            .score(2)
+                                                            .date(now.minusDays(1))
+                                                            .build(),
+                                                    Review.builder()
+                                                            .collaborator(collaborator)
+                                                            .score(4)
+                                                            .date(now)
+                                                            .build()));
+                            projectRepository.save(storedProject);
+                        });
+
+        reputationScoreBackfill.backfill();
+        reputationScoreBackfill.backfill();
+
+        assertEquals(1, reputationScoreRepository.count());
+        User backfilled = userRepository.findById(collaborator.getId()).get();
+        assertEquals(4, backfilled.getReputationScoreSum());
+        assertEquals(1, backfilled.getReputationScoreCount());
+        assertEquals(4, backfilled.getReputation());
+    }
+}
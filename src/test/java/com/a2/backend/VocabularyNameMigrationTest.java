@@ -0,0 +1,80 @@
+package com.a2.backend;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.entity.User;
+import com.a2.backend.model.ProjectCreateDTO;
+import com.a2.backend.repository.UserRepository;
+import com.a2.backend.service.ProjectService;
+import java.util.List;
+import java.util.UUID;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class VocabularyNameMigrationTest extends AbstractTest {
+
+    @Autowired private VocabularyNameMigration vocabularyNameMigration;
+
+    @Autowired private ProjectService projectService;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private int countForumTags(String name) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM forum_tag WHERE name = ?", Integer.class, name);
+    }
+
+    @Test
+    @WithMockUser(username = "some@email.com")
+    void Test001_VocabularyNameMigrationGivenDuplicateForumTagsWhenMigratingThenTheyAreMerged() {
+        userRepository.save(User.builder().nickname("nickname").email("some@email.com").build());
+        val project =
+                projectService.createProject(
+                        ProjectCreateDTO.builder()
+                                .title("Project title")
+                                .description("description")
+                                .links(List.of("link1"))
+                                .tags(List.of("tag1"))
+                                .forumTags(List.of("help", "actual"))
+                                .languages(List.of("Java"))
+                                .build());
+        // A database created before forum tag names were unique
+        jdbcTemplate.execute("ALTER TABLE forum_tag DROP CONSTRAINT uk_forum_tag_name");
+        UUID duplicateId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO forum_tag (id, name) VALUES (?, ?)", duplicateId, "help");
+        jdbcTemplate.update(
+                "INSERT INTO project_forum_tags (project_id, forum_tags_id) VALUES (?, ?)",
+                project.getId(),
+                duplicateId);
+        assertEquals(2, countForumTags("help"));
+
+        vocabularyNameMigration.migrate();
+
+        assertEquals(1, countForumTags("help"));
+        assertEquals(
+                2,
+                jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM project_forum_tags WHERE project_id = ?",
+                        Integer.class,
+                        project.getId()));
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () ->
+                        jdbcTemplate.update(
+                                "INSERT INTO forum_tag (id, name) VALUES (?, ?)",
+                                UUID.randomUUID(),
+                                "help"));
+    }
+}
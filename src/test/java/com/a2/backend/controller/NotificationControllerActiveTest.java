@@ -1,9 +1,12 @@
 package com.a2.backend.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.NotificationSummaryDTO;
+import com.a2.backend.model.NotificationSummaryResultDTO;
 import com.a2.backend.repository.NotificationRepository;
 import com.a2.backend.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -111,4 +114,87 @@ public class NotificationControllerActiveTest extends AbstractControllerTest {
         assertNotNull(notifications);
         assertEquals(3, notifications.length);
     }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test005_NotificationControllerWhenGettingInboxPageThenHttpOkIsReturned() throws Exception {
+
+        String contentAsString =
+                mvc.perform(
+                                MockMvcRequestBuilders.get(baseUrl + "/inbox?page=0&size=2")
+                                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        val inbox = objectMapper.readValue(contentAsString, NotificationSummaryResultDTO.class);
+
+        assertEquals(2, inbox.getNotifications().size());
+        assertEquals(1, inbox.getPageAmount());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test006_NotificationControllerWhenCountingUnreadNotificationsThenHttpOkIsReturned()
+            throws Exception {
+        long unseenNotifications =
+                notificationRepository.findAllByUserToNotify(userService.getLoggedUser()).stream()
+                        .filter(notification -> !notification.isSeen())
+                        .count();
+
+        String contentAsString =
+                mvc.perform(
+                                MockMvcRequestBuilders.get(baseUrl + "/unread-count")
+                                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        assertEquals(unseenNotifications, objectMapper.readValue(contentAsString, Long.class));
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test007_NotificationControllerWhenOpeningStreamThenAsyncResponseIsStarted()
+            throws Exception {
+        mvc.perform(
+                        MockMvcRequestBuilders.get(baseUrl + "/stream")
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test008_NotificationControllerWhenMarkingAllAsSeenThenHttpOkIsReturned() throws Exception {
+        val loggedUser = userService.getLoggedUser();
+
+        mvc.perform(MockMvcRequestBuilders.put(baseUrl + "/seen")).andExpect(status().isOk());
+
+        assertTrue(
+                notificationRepository.findAllByUserToNotify(loggedUser).stream()
+                        .allMatch(notification -> notification.isSeen()));
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test009_NotificationControllerWhenGettingFirstFiveSummariesThenHttpOkIsReturned()
+            throws Exception {
+
+        String contentAsString =
+                mvc.perform(
+                                MockMvcRequestBuilders.get(baseUrl + "/first-five/summary")
+                                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        val notifications = objectMapper.readValue(contentAsString, NotificationSummaryDTO[].class);
+
+        assertEquals(3, notifications.length);
+        assertNotNull(notifications[0].getProjectTitle());
+    }
 }
@@ -10,7 +10,9 @@ import com.a2.backend.repository.DiscussionRepository;
 import com.a2.backend.repository.ProjectRepository;
 import com.a2.backend.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -614,9 +616,10 @@ public class ProjectControllerActiveTest extends AbstractControllerTest {
                         .getResponse()
                         .getContentAsString();
 
-        ReviewDTO[] reviews = objectMapper.readValue(contentAsString, ReviewDTO[].class);
-        assertNotNull(reviews);
-        assertEquals(2, reviews.length);
+        ReviewResultDTO result = objectMapper.readValue(contentAsString, ReviewResultDTO.class);
+        assertNotNull(result.getReviews());
+        assertEquals(2, result.getReviews().size());
+        assertEquals(0, result.getPageAmount());
     }
 
     @Test
@@ -1181,4 +1184,64 @@ public class ProjectControllerActiveTest extends AbstractControllerTest {
         assertEquals(4, searchResultDTO.getProjects().size());
         assertTrue(searchResultDTO.getPageAmount() == 0);
     }
+
+    /** Walking GET /project with cursors returns every project exactly once */
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test0043_ProjectControllerFindAllProjectsWithCursor() throws Exception {
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            val request = MockMvcRequestBuilders.get(baseUrl).param("size", "4");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String contentAsString =
+                    mvc.perform(request.accept(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isOk())
+                            .andReturn()
+                            .getResponse()
+                            .getContentAsString();
+            SearchResultDTO searchResultDTO =
+                    objectMapper.readValue(contentAsString, SearchResultDTO.class);
+            assertTrue(searchResultDTO.getProjects().size() <= 4);
+            searchResultDTO.getProjects().forEach(project -> titles.add(project.getTitle()));
+            cursor = searchResultDTO.getNext();
+        } while (cursor != null);
+
+        assertEquals(11, titles.size());
+        assertEquals(11, new HashSet<>(titles).size());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test0044_ProjectControllerFindAllProjectsWithInvalidCursorShouldReturnBadRequest()
+            throws Exception {
+        mvc.perform(
+                        MockMvcRequestBuilders.get(baseUrl)
+                                .param("cursor", "not-a-cursor")
+                                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test0045_ProjectControllerFindAllProjectSummaries() throws Exception {
+        String contentAsString =
+                mvc.perform(
+                                MockMvcRequestBuilders.get(baseUrl)
+                                        .param("summary", "true")
+                                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        ProjectSummaryDTO[] projects =
+                objectMapper.readValue(contentAsString, ProjectSummaryDTO[].class);
+
+        assertEquals(11, projects.length);
+        assertNotNull(projects[0].getOwnerNickname());
+        assertFalse(projects[0].getTags().isEmpty());
+    }
 }
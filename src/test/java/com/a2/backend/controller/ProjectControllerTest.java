@@ -21,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
@@ -1547,6 +1548,33 @@ class ProjectControllerTest extends AbstractTest {
         assertEquals("Not Start Project", searchResultDTO.getProjects().get(0).getTitle());
     }
 
+    @Test
+    @WithMockUser(username = "some@gmail.com")
+    void Test035_WhenGettingValidLanguagesWithTheirETagThenNotModifiedIsReturned()
+            throws Exception {
+        String eTag =
+                mvc.perform(
+                                MockMvcRequestBuilders.get("/project/languages")
+                                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        String contentAsString =
+                mvc.perform(
+                                MockMvcRequestBuilders.get("/project/languages")
+                                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isNotModified())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        assertEquals("", contentAsString);
+    }
+
     @Test
     void Test_ProjectCreator() {
         List<ProjectCreateDTO> projects = projectCreator(3);
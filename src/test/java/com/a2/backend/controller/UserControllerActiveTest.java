@@ -7,10 +7,10 @@ import com.a2.backend.constants.PrivacyConstant;
 import com.a2.backend.entity.User;
 import com.a2.backend.model.NotificationUpdatePreferencDTO;
 import com.a2.backend.model.ReviewDTO;
+import com.a2.backend.model.ReviewResultDTO;
 import com.a2.backend.model.UserPrivacyDTO;
 import com.a2.backend.model.UserProfileDTO;
 import com.a2.backend.repository.UserRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.Objects;
@@ -161,9 +161,11 @@ public class UserControllerActiveTest extends AbstractControllerTest {
                         .andReturn()
                         .getResponse()
                         .getContentAsString();
-        List<ReviewDTO> reviews = objectMapper.readValue(contentAsString, new TypeReference<>() {});
+        ReviewResultDTO result = objectMapper.readValue(contentAsString, ReviewResultDTO.class);
+        List<ReviewDTO> reviews = result.getReviews();
 
         assertEquals(3, reviews.size());
+        assertEquals(0, result.getPageAmount());
         assertTrue(reviews.get(0).getDate().isAfter(reviews.get(1).getDate()));
         assertTrue(reviews.get(1).getDate().isAfter(reviews.get(2).getDate()));
     }
@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import com.a2.backend.BackendApplication;
 import com.a2.backend.entity.ForumTag;
 import java.util.List;
-import java.util.Locale;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -67,16 +66,4 @@ class ForumTagRepositoryTest {
 
         assertTrue(forumTagRepository.findByName("tag2").isEmpty());
     }
-
-    @Test
-    void Test004_LanguageRepositoryWhenGivenExistingNameFindsLanguage() {
-        ForumTag tag1 = ForumTag.builder().name("tAg1").build();
-        ForumTag tag2 = ForumTag.builder().name("NotFoundTag").build();
-        forumTagRepository.save(tag1);
-        forumTagRepository.save(tag2);
-
-        assertEquals(
-                forumTagRepository.findForumTagName("aG1".toUpperCase(Locale.ROOT)).get(0), "tAg1");
-        assertEquals(forumTagRepository.findForumTagName("ag1".toUpperCase(Locale.ROOT)).size(), 1);
-    }
 }
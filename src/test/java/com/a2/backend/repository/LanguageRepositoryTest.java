@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.a2.backend.BackendApplication;
 import com.a2.backend.entity.Language;
 import java.util.List;
-import java.util.Locale;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -66,14 +65,4 @@ class LanguageRepositoryTest {
 
         assertTrue(languageRepository.findByName("Python").isEmpty());
     }
-
-    @Test
-    void Test004_LanguageRepositoryWhenGivenExistingNameFindsLanguage() {
-        Language language = Language.builder().name("jaVA").build();
-        Language language2 = Language.builder().name("Script").build();
-        languageRepository.save(language);
-        languageRepository.save(language2);
-
-        assertEquals(languageRepository.findLanguageName("Ja".toUpperCase(Locale.ROOT)).size(), 1);
-    }
 }
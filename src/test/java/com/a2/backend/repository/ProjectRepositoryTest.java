@@ -7,13 +7,19 @@ import com.a2.backend.entity.*;
 import java.util.*;
 import java.util.Arrays;
 import lombok.val;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -29,6 +35,8 @@ class ProjectRepositoryTest {
 
     @Autowired private UserRepository userRepository;
 
+    @Autowired private TestEntityManager testEntityManager;
+
     String title = "New project";
     String description = "Testing project repository";
     User owner =
@@ -268,4 +276,95 @@ class ProjectRepositoryTest {
         List<Project> results = projectRepository.findByTitleContainingIgnoreCase("pro");
         assertEquals(project, results.get(0));
     }
+
+    @Test
+    void
+            Test010_GivenTagsAndLanguagesSpecificationWhenSearchingThenOnlyProjectsHavingAllOfThemAreReturned() {
+        userRepository.save(owner);
+
+        projectRepository.save(project1);
+        projectRepository.save(project2);
+        projectRepository.save(project3);
+
+        List<Project> results =
+                projectRepository.findAll(
+                        ProjectSpecifications.hasAllTags(List.of("TAG1", "tag3"))
+                                .and(ProjectSpecifications.hasAllLanguages(List.of("python"))));
+
+        assertEquals(2, results.size());
+        assertTrue(results.contains(project2));
+        assertTrue(results.contains(project3));
+
+        Page<Project> page =
+                projectRepository.findAll(
+                        ProjectSpecifications.titleContains("project")
+                                .and(ProjectSpecifications.hasAllLanguages(List.of("java"))),
+                        PageRequest.of(0, 1, Sort.by("title")));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        assertEquals(project1, page.getContent().get(0));
+    }
+
+    @Test
+    void
+            Test011_GivenKeysetSpecificationWhenFindingLimitedThenProjectsAfterTheKeyAreReturnedInOrder() {
+        userRepository.save(owner);
+
+        projectRepository.save(project1);
+        projectRepository.save(project2);
+        projectRepository.save(project3);
+
+        Sort sort = Sort.by("title").and(Sort.by("id"));
+        List<Project> firstSlice =
+                projectRepository.findLimited(Specification.where(null), sort, 2);
+
+        assertEquals(2, firstSlice.size());
+        assertEquals(project1, firstSlice.get(0));
+        assertEquals(project2, firstSlice.get(1));
+
+        List<Project> secondSlice =
+                projectRepository.findLimited(
+                        ProjectSpecifications.after(project2.getTitle(), project2.getId()),
+                        sort,
+                        2);
+
+        assertEquals(1, secondSlice.size());
+        assertEquals(project3, secondSlice.get(0));
+    }
+
+    @Test
+    void Test012_GivenAFetchPlanWhenFindingAProjectThenOnlyItsAssociationIsInitialized() {
+        userRepository.save(owner);
+        projectRepository.save(project1);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        val projectWithMembers = projectRepository.findWithMembersById(project1.getId()).get();
+
+        assertTrue(Hibernate.isInitialized(projectWithMembers.getCollaborators()));
+        assertFalse(Hibernate.isInitialized(projectWithMembers.getTags()));
+        assertFalse(Hibernate.isInitialized(projectWithMembers.getReviews()));
+
+        testEntityManager.clear();
+
+        val projectWithReviews = projectRepository.findWithReviewsById(project1.getId()).get();
+
+        assertTrue(Hibernate.isInitialized(projectWithReviews.getReviews()));
+        assertFalse(Hibernate.isInitialized(projectWithReviews.getCollaborators()));
+    }
+
+    @Test
+    void Test013_GivenTagsDifferingOnlyInCaseWhenSearchingThenTheyCountAsOneName() {
+        userRepository.save(owner);
+        Tag upperCaseTag1 = Tag.builder().name("TAG1").build();
+        project1.setTags(Arrays.asList(tag1, upperCaseTag1));
+        projectRepository.save(project1);
+
+        List<Project> results =
+                projectRepository.findAll(
+                        ProjectSpecifications.hasAllTags(List.of("tag1", "tag2")));
+
+        assertTrue(results.isEmpty());
+    }
 }
@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.a2.backend.BackendApplication;
 import com.a2.backend.entity.Tag;
 import java.util.List;
-import java.util.Locale;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -68,13 +68,11 @@ class TagRepositoryTest {
     }
 
     @Test
-    void Test004_LanguageRepositoryWhenGivenExistingNameFindsLanguage() {
-        Tag tag1 = Tag.builder().name("tAg1").build();
-        Tag tag2 = Tag.builder().name("NotFoundTag").build();
-        tagRepository.save(tag1);
-        tagRepository.save(tag2);
+    void Test005_TagRepositoryWhenSavingADuplicateNameShouldFail() {
+        tagRepository.saveAndFlush(Tag.builder().name("tag1").build());
 
-        assertEquals(tagRepository.findTagName("aG1".toUpperCase(Locale.ROOT)).get(0), "tAg1");
-        assertEquals(tagRepository.findTagName("ag1".toUpperCase(Locale.ROOT)).size(), 1);
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> tagRepository.saveAndFlush(Tag.builder().name("tag1").build()));
     }
 }
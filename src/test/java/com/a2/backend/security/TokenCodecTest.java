@@ -0,0 +1,37 @@
+package com.a2.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class TokenCodecTest {
+
+    private final TokenCodec tokenCodec = new TokenCodec();
+
+    @Test
+    void Test001_GivenAnIssuedTokenWhenDecodingThenTheSubjectIsReturned() {
+        String token = tokenCodec.encode("some@email.com");
+
+        assertEquals("some@email.com", tokenCodec.decode(token).getSubject());
+        assertSame(tokenCodec.decode(token), tokenCodec.decode(token));
+    }
+
+    @Test
+    void Test002_GivenATokenSignedWithAnotherKeyWhenDecodingThenExceptionIsThrown() {
+        String token =
+                Jwts.builder()
+                        .setSubject("some@email.com")
+                        .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                        .signWith(
+                                Keys.secretKeyFor(SignatureAlgorithm.HS512),
+                                SignatureAlgorithm.HS512)
+                        .compact();
+
+        assertThrows(JwtException.class, () -> tokenCodec.decode(token));
+    }
+}
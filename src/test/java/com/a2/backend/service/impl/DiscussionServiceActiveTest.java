@@ -10,6 +10,7 @@ import com.a2.backend.exception.UserIsNotOwnerException;
 import com.a2.backend.model.CommentCreateDTO;
 import com.a2.backend.model.CommentUpdateDTO;
 import com.a2.backend.model.DiscussionCreateDTO;
+import com.a2.backend.repository.ForumTagRepository;
 import com.a2.backend.repository.NotificationRepository;
 import com.a2.backend.repository.ProjectRepository;
 import com.a2.backend.service.DiscussionService;
@@ -31,6 +32,8 @@ public class DiscussionServiceActiveTest extends AbstractServiceTest {
 
     @Autowired NotificationRepository notificationRepository;
 
+    @Autowired ForumTagRepository forumTagRepository;
+
     @Autowired UserService userService;
 
     @Test
@@ -492,4 +495,32 @@ public class DiscussionServiceActiveTest extends AbstractServiceTest {
         assertTrue(project.getCollaborators().isEmpty());
         assertEquals(notificationsBeforeCreatingDiscussion.size(), notifications.size());
     }
+
+    @Test
+    @WithMockUser("rodrigo.pazos@ing.austral.edu.ar")
+    void Test026_DiscussionServiceWhenTwoDiscussionsUseTheSameForumTagThenTheyShareOneTag() {
+        Project project = projectRepository.findByTitle("Renovate").get();
+
+        val firstDiscussion =
+                discussionService.createDiscussion(
+                        project.getId(),
+                        DiscussionCreateDTO.builder()
+                                .title("first discussion")
+                                .body("first discussion body")
+                                .forumTags(List.of("shared"))
+                                .build());
+        val secondDiscussion =
+                discussionService.createDiscussion(
+                        project.getId(),
+                        DiscussionCreateDTO.builder()
+                                .title("second discussion")
+                                .body("second discussion body")
+                                .forumTags(List.of("shared"))
+                                .build());
+
+        assertEquals(1, forumTagRepository.findByNameIn(List.of("shared")).size());
+        assertEquals(
+                firstDiscussion.getForumTags().get(0).getId(),
+                secondDiscussion.getForumTags().get(0).getId());
+    }
 }
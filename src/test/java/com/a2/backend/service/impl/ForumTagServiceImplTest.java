@@ -2,26 +2,34 @@ package com.a2.backend.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
 
+import com.a2.backend.AbstractTest;
 import com.a2.backend.entity.ForumTag;
 import com.a2.backend.repository.ForumTagRepository;
 import com.a2.backend.service.ForumTagService;
+import com.a2.backend.utils.VocabularyInserter;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.annotation.DirtiesContext;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
-public class ForumTagServiceImplTest {
+public class ForumTagServiceImplTest extends AbstractTest {
     @Autowired private ForumTagService forumTagService;
 
     @Autowired private ForumTagRepository forumTagRepository;
 
+    @SpyBean private VocabularyInserter vocabularyInserter;
+
     @Test
     void Test001_ForumTagServiceWhenReceivesValidTagNameShouldCreateTagWithGivenName() {
         ForumTag tag = forumTagService.createTag("Tag name");
@@ -81,4 +89,23 @@ public class ForumTagServiceImplTest {
         assertEquals(1, removedTags.size());
         assertEquals("tag2", removedTags.get(0).getName());
     }
+
+    @Test
+    void
+            Test006_ForumTagServiceGivenATagStoredByAnotherRequestMeanwhileWhenCreatingTagsThenItIsReused() {
+        // Another request stores tag1 after the lookup missed it, right before the insert
+        doAnswer(
+                        invocation -> {
+                            forumTagRepository.save(forumTagService.createTag("tag1"));
+                            return invocation.callRealMethod();
+                        })
+                .when(vocabularyInserter)
+                .insertMissing(any(), anyCollection(), any());
+
+        List<ForumTag> tagList = forumTagService.createTag(Arrays.asList("tag1", "tag2"));
+
+        assertEquals(forumTagRepository.findByName("tag1").get().getId(), tagList.get(0).getId());
+        assertEquals("tag2", tagList.get(1).getName());
+        assertEquals(2, forumTagRepository.count());
+    }
 }
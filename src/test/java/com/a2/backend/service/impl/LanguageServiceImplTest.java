@@ -108,4 +108,15 @@ class LanguageServiceImplTest extends AbstractTest {
                         languageService.findOrCreateLanguage(
                                 Arrays.asList("Not Valid Name", "Java")));
     }
+
+    @Test
+    void Test008_LanguageServiceWhenReceivesLanguageNamesInAnyCaseShouldUseTheCatalogSpelling() {
+        Language java = languageRepository.save(languageService.createLanguage("Java"));
+
+        List<Language> languages =
+                languageService.findOrCreateLanguage(Arrays.asList("python", "JAVA"));
+
+        assertEquals("Python", languages.get(0).getName());
+        assertEquals(java.getId(), languages.get(1).getId());
+    }
 }
@@ -0,0 +1,243 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.a2.backend.AbstractTest;
+import com.a2.backend.constants.DigestInterval;
+import com.a2.backend.constants.NotificationType;
+import com.a2.backend.constants.OutboxMailStatus;
+import com.a2.backend.entity.Notification;
+import com.a2.backend.entity.OutboxMail;
+import com.a2.backend.entity.User;
+import com.a2.backend.model.NotificationMailDTO;
+import com.a2.backend.repository.OutboxMailRepository;
+import com.a2.backend.service.MailOutboxService;
+import com.a2.backend.service.MailService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class MailOutboxServiceImplTest extends AbstractTest {
+
+    @Autowired private MailOutboxService mailOutboxService;
+
+    @Autowired private OutboxMailRepository outboxMailRepository;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @MockBean private MailService mailService;
+
+    private final String email = "some@email.com";
+    private final String otherEmail = "other@email.com";
+
+    private OutboxMail dueMail(String recipient, NotificationType type) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxMail.builder()
+                .recipient(recipient)
+                .type(type)
+                .nextAttemptAt(now.minusSeconds(1))
+                .createdAt(now)
+                .build();
+    }
+
+    private void awaitAll(Predicate<OutboxMail> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!outboxMailRepository.findAll().stream().allMatch(condition)) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Outbox mails were not dispatched in time");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void Test001_MailOutboxServiceWhenDispatchingThenMailsAreSentOncePerRecipient()
+            throws InterruptedException {
+        outboxMailRepository.saveAll(
+                List.of(
+                        dueMail(email, NotificationType.DISCUSSION),
+                        dueMail(email, NotificationType.COMMENT),
+                        dueMail(otherEmail, NotificationType.REVIEW)));
+
+        mailOutboxService.dispatchPendingMails();
+
+        awaitAll(mail -> mail.getStatus() == OutboxMailStatus.SENT);
+        verify(mailService, times(1)).sendNotificationMail(eq(email), anyList());
+        verify(mailService, times(1)).sendNotificationMail(eq(otherEmail), anyList());
+        outboxMailRepository
+                .findAll()
+                .forEach(
+                        mail -> {
+                            assertEquals(1, mail.getAttempts());
+                            assertNull(mail.getClaim());
+                        });
+    }
+
+    @Test
+    void Test002_MailOutboxServiceWhenSendingFailsThenMailIsRetriedLater()
+            throws InterruptedException {
+        doThrow(new MailSendException("SMTP server unavailable"))
+                .when(mailService)
+                .sendNotificationMail(eq(email), anyList());
+        outboxMailRepository.save(dueMail(email, NotificationType.APPLICANT));
+
+        mailOutboxService.dispatchPendingMails();
+
+        awaitAll(mail -> mail.getAttempts() == 1);
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        assertEquals(OutboxMailStatus.PENDING, mail.getStatus());
+        assertNull(mail.getClaim());
+        assertTrue(mail.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void Test003_MailOutboxServiceWhenMailFailedTooManyTimesThenItIsGivenUp()
+            throws InterruptedException {
+        doThrow(new MailSendException("SMTP server unavailable"))
+                .when(mailService)
+                .sendNotificationMail(eq(email), anyList());
+        OutboxMail mail = dueMail(email, NotificationType.APPLICANT);
+        mail.setAttempts(MailOutboxServiceImpl.MAX_ATTEMPTS - 1);
+        outboxMailRepository.save(mail);
+
+        mailOutboxService.dispatchPendingMails();
+
+        awaitAll(outboxMail -> outboxMail.getStatus() == OutboxMailStatus.FAILED);
+        assertEquals(
+                MailOutboxServiceImpl.MAX_ATTEMPTS,
+                outboxMailRepository.findAll().get(0).getAttempts());
+    }
+
+    @Test
+    void Test004_MailOutboxServiceWhenComputingRetryDelayThenItDoublesEachAttempt() {
+        assertEquals(Duration.ofMinutes(1), MailOutboxServiceImpl.retryDelay(1));
+        assertEquals(Duration.ofMinutes(2), MailOutboxServiceImpl.retryDelay(2));
+        assertEquals(Duration.ofMinutes(8), MailOutboxServiceImpl.retryDelay(4));
+    }
+
+    @Test
+    void Test005_MailOutboxServiceWhenUserIsOnDigestThenMailIsHeldForTheWholeWindow() {
+        User user = User.builder().email(email).digestInterval(DigestInterval.DAILY).build();
+        Notification notification =
+                Notification.builder().userToNotify(user).type(NotificationType.REVIEW).build();
+
+        mailOutboxService.enqueueNotificationMail(notification);
+
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        assertEquals(OutboxMailStatus.PENDING, mail.getStatus());
+        assertTrue(mail.getNextAttemptAt().isAfter(LocalDateTime.now().plusHours(23)));
+    }
+
+    @Test
+    void Test006_MailOutboxServiceWhenADigestBecomesDueThenAllPendingMailsAreSentTogether()
+            throws InterruptedException {
+        OutboxMail heldMail = dueMail(email, NotificationType.COMMENT);
+        heldMail.setNextAttemptAt(LocalDateTime.now().plusDays(1));
+        outboxMailRepository.saveAll(
+                List.of(dueMail(email, NotificationType.DISCUSSION), heldMail));
+
+        mailOutboxService.dispatchPendingMails();
+
+        awaitAll(mail -> mail.getStatus() == OutboxMailStatus.SENT);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationMailDTO>> notifications =
+                ArgumentCaptor.forClass(List.class);
+        verify(mailService, times(1)).sendNotificationMail(eq(email), notifications.capture());
+        assertEquals(2, notifications.getValue().size());
+    }
+
+    @Test
+    void Test007_MailOutboxServiceWhenNoMailIsDueThenNothingIsSent() {
+        OutboxMail heldMail = dueMail(email, NotificationType.COMMENT);
+        heldMail.setNextAttemptAt(LocalDateTime.now().plusDays(1));
+        outboxMailRepository.save(heldMail);
+
+        mailOutboxService.dispatchPendingMails();
+
+        verify(mailService, never()).sendNotificationMail(anyString(), anyList());
+        assertEquals(OutboxMailStatus.PENDING, outboxMailRepository.findAll().get(0).getStatus());
+    }
+
+    @Test
+    void Test008_MailOutboxServiceWhenARetryIsNotDueThenItIsNotSentAlongWithNewMails()
+            throws InterruptedException {
+        OutboxMail retriedMail = dueMail(email, NotificationType.COMMENT);
+        retriedMail.setAttempts(1);
+        retriedMail.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+        outboxMailRepository.save(retriedMail);
+        outboxMailRepository.save(dueMail(email, NotificationType.DISCUSSION));
+
+        mailOutboxService.dispatchPendingMails();
+
+        awaitAll(mail -> mail.getStatus() != OutboxMailStatus.PENDING || mail.getAttempts() == 1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationMailDTO>> notifications =
+                ArgumentCaptor.forClass(List.class);
+        verify(mailService, times(1)).sendNotificationMail(eq(email), notifications.capture());
+        assertEquals(1, notifications.getValue().size());
+        OutboxMail waitingMail = outboxMailRepository.findById(retriedMail.getId()).get();
+        assertEquals(OutboxMailStatus.PENDING, waitingMail.getStatus());
+        assertNull(waitingMail.getClaim());
+    }
+
+    @Test
+    void Test009_MailOutboxServiceWhenDiscardingPendingMailsThenOnlyUnclaimedOnesAreDeleted() {
+        OutboxMail heldMail = dueMail(email, NotificationType.COMMENT);
+        heldMail.setNextAttemptAt(LocalDateTime.now().plusDays(1));
+        OutboxMail claimedMail = dueMail(email, NotificationType.DISCUSSION);
+        claimedMail.setClaim(UUID.randomUUID());
+        claimedMail.setNextAttemptAt(LocalDateTime.now().plusMinutes(5));
+        OutboxMail otherMail = dueMail(otherEmail, NotificationType.COMMENT);
+        outboxMailRepository.saveAll(List.of(heldMail, claimedMail, otherMail));
+
+        mailOutboxService.discardPendingMails(email);
+
+        List<OutboxMail> mails = outboxMailRepository.findAll();
+        assertEquals(2, mails.size());
+        assertTrue(mails.stream().anyMatch(mail -> mail.getId().equals(claimedMail.getId())));
+        assertTrue(mails.stream().anyMatch(mail -> mail.getId().equals(otherMail.getId())));
+    }
+
+    @Test
+    void Test010_MailOutboxServiceWhenTheLeaseWasTakenOverThenTheResultIsNotSaved() {
+        UUID newClaim = UUID.randomUUID();
+        OutboxMail mail = dueMail(email, NotificationType.COMMENT);
+        mail.setClaim(newClaim);
+        outboxMailRepository.save(mail);
+
+        int released =
+                new TransactionTemplate(transactionManager)
+                        .execute(
+                                status ->
+                                        outboxMailRepository.release(
+                                                mail.getId(),
+                                                UUID.randomUUID(),
+                                                OutboxMailStatus.SENT,
+                                                1,
+                                                mail.getNextAttemptAt()));
+
+        assertEquals(0, released);
+        OutboxMail storedMail = outboxMailRepository.findById(mail.getId()).get();
+        assertEquals(OutboxMailStatus.PENDING, storedMail.getStatus());
+        assertEquals(newClaim, storedMail.getClaim());
+    }
+}
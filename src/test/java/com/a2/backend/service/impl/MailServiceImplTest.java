@@ -0,0 +1,66 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.a2.backend.constants.NotificationType;
+import com.a2.backend.model.NotificationMailDTO;
+import java.util.List;
+import javax.mail.BodyPart;
+import javax.mail.Multipart;
+import javax.mail.Part;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSender;
+
+class MailServiceImplTest {
+
+    private static String findHtml(Part part) throws Exception {
+        if (part.isMimeType("text/html")) {
+            return (String) part.getContent();
+        }
+        if (part.getContent() instanceof Multipart) {
+            Multipart multipart = (Multipart) part.getContent();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart bodyPart = multipart.getBodyPart(i);
+                String html = findHtml(bodyPart);
+                if (html != null) {
+                    return html;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void Test001_GivenProjectTitlesWithMarkupWhenSendingDigestThenTheyAreEscaped()
+            throws Exception {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        MailServiceImpl mailService = new MailServiceImpl(mailSender);
+
+        mailService.sendNotificationMail(
+                "some@email.com",
+                List.of(
+                        NotificationMailDTO.builder()
+                                .type(NotificationType.COMMENT)
+                                .projectTitle("<b>Tom & Jerry</b>")
+                                .build(),
+                        NotificationMailDTO.builder()
+                                .type(NotificationType.REVIEW)
+                                .projectTitle("Plain")
+                                .build()));
+
+        ArgumentCaptor<MimeMessage> message = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(mailSender).send(message.capture());
+        message.getValue().saveChanges();
+        String html = findHtml(message.getValue());
+        assertTrue(
+                html.contains(
+                        "<li>1 COMMENT notification on &lt;b&gt;Tom &amp; Jerry&lt;/b&gt;</li>"));
+        assertTrue(html.contains("<li>1 REVIEW notification on Plain</li>"));
+        assertFalse(html.contains("<b>Tom"));
+    }
+}
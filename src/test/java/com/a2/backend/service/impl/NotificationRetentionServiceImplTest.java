@@ -0,0 +1,102 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.AbstractTest;
+import com.a2.backend.constants.NotificationType;
+import com.a2.backend.constants.OutboxMailStatus;
+import com.a2.backend.entity.Notification;
+import com.a2.backend.entity.OutboxMail;
+import com.a2.backend.entity.User;
+import com.a2.backend.repository.NotificationRepository;
+import com.a2.backend.repository.OutboxMailRepository;
+import com.a2.backend.repository.UserRepository;
+import com.a2.backend.service.NotificationRetentionService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = "notification.retention.batch-size=2")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class NotificationRetentionServiceImplTest extends AbstractTest {
+
+    @Autowired private NotificationRetentionService notificationRetentionService;
+
+    @Autowired private NotificationRepository notificationRepository;
+
+    @Autowired private OutboxMailRepository outboxMailRepository;
+
+    @Autowired private UserRepository userRepository;
+
+    private Notification notification(User userToNotify, boolean seen, LocalDateTime date) {
+        return Notification.builder()
+                .userToNotify(userToNotify)
+                .type(NotificationType.COMMENT)
+                .seen(seen)
+                .date(date)
+                .build();
+    }
+
+    private OutboxMail outboxMail(OutboxMailStatus status, LocalDateTime createdAt) {
+        return OutboxMail.builder()
+                .recipient("some@email.com")
+                .type(NotificationType.COMMENT)
+                .status(status)
+                .nextAttemptAt(createdAt)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    void Test001_NotificationRetentionServiceWhenPurgingThenOnlyOldSeenNotificationsAreDeleted() {
+        val user =
+                userRepository.save(
+                        User.builder().nickname("nickname").email("some@email.com").build());
+        val old = LocalDateTime.now().minusYears(1);
+        val recent = LocalDateTime.now().minusDays(1);
+        val unseenOldNotification = notification(user, false, old);
+        val seenRecentNotification = notification(user, true, recent);
+        notificationRepository.saveAll(
+                List.of(
+                        notification(user, true, old),
+                        notification(user, true, old),
+                        notification(user, true, old),
+                        unseenOldNotification,
+                        seenRecentNotification));
+
+        notificationRetentionService.purgeExpired();
+
+        val remainingNotifications = notificationRepository.findAll();
+        assertEquals(2, remainingNotifications.size());
+        assertTrue(
+                remainingNotifications.stream()
+                        .allMatch(
+                                notification ->
+                                        !notification.isSeen()
+                                                || notification.getDate().isAfter(old)));
+    }
+
+    @Test
+    void Test002_NotificationRetentionServiceWhenPurgingThenOnlyOldFinishedOutboxMailsAreDeleted() {
+        val old = LocalDateTime.now().minusMonths(1);
+        outboxMailRepository.saveAll(
+                List.of(
+                        outboxMail(OutboxMailStatus.SENT, old),
+                        outboxMail(OutboxMailStatus.FAILED, old),
+                        outboxMail(OutboxMailStatus.SENT, LocalDateTime.now()),
+                        outboxMail(OutboxMailStatus.PENDING, old.plusYears(1))));
+
+        notificationRetentionService.purgeExpired();
+
+        assertEquals(2, outboxMailRepository.count());
+        assertTrue(
+                outboxMailRepository.findAll().stream()
+                        .noneMatch(mail -> mail.getCreatedAt().isEqual(old)));
+    }
+}
@@ -12,7 +12,10 @@ import com.a2.backend.repository.ProjectRepository;
 import com.a2.backend.repository.UserRepository;
 import com.a2.backend.service.NotificationService;
 import com.a2.backend.service.UserService;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -155,4 +158,131 @@ public class NotificationServiceActiveTest extends AbstractServiceTest {
         // This does not have an assert since I'm checking if it sends the mail or not
 
     }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test010_NotificationServiceWhenGettingInboxThenItIsPagedAndOrderedByDate() {
+        val firstPage = notificationService.getInboxOfLoggedUser(0, 2);
+        val secondPage = notificationService.getInboxOfLoggedUser(1, 2);
+
+        assertEquals(1, firstPage.getPageAmount());
+        assertEquals(2, firstPage.getNotifications().size());
+        assertEquals(1, secondPage.getNotifications().size());
+        assertFalse(
+                firstPage
+                        .getNotifications()
+                        .get(0)
+                        .getDate()
+                        .isBefore(firstPage.getNotifications().get(1).getDate()));
+        assertFalse(
+                firstPage
+                        .getNotifications()
+                        .get(1)
+                        .getDate()
+                        .isBefore(secondPage.getNotifications().get(0).getDate()));
+        assertNotNull(firstPage.getNotifications().get(0).getProjectTitle());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test011_NotificationServiceWhenMarkingNotificationAsSeenThenUnseenCountDecreases() {
+        val notifications = notificationService.getFirstFiveNotificationsOfLoggedUser();
+        val unseenNotifications =
+                notifications.stream().filter(notification -> !notification.isSeen()).count();
+        assertEquals(3, notifications.size());
+        assertEquals(
+                unseenNotifications, notificationService.countUnseenNotificationsOfLoggedUser());
+
+        notificationService.markNotificationAsSeen(
+                notifications.stream()
+                        .filter(notification -> !notification.isSeen())
+                        .findFirst()
+                        .get()
+                        .getId());
+
+        assertEquals(
+                unseenNotifications - 1,
+                notificationService.countUnseenNotificationsOfLoggedUser());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test012_NotificationServiceWhenCreatingSeveralNotificationsThenTheyAreAllCreated() {
+        val project = projectRepository.findByTitle("Django").get();
+        val users = List.of(project.getOwner(), project.getCollaborators().get(0));
+
+        val notifications =
+                notificationService.createNotifications(
+                        users.stream()
+                                .map(
+                                        user ->
+                                                NotificationCreateDTO.builder()
+                                                        .type(NotificationType.DISCUSSION)
+                                                        .project(project)
+                                                        .userToNotify(user)
+                                                        .build())
+                                .collect(Collectors.toList()));
+
+        assertEquals(2, notifications.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertNotNull(notifications.get(i).getId());
+            assertEquals(users.get(i).getId(), notifications.get(i).getUserToNotify().getId());
+            assertTrue(notificationRepository.existsById(notifications.get(i).getId()));
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test013_NotificationServiceWhenMarkingAllAsSeenThenNoUnseenNotificationsAreLeft() {
+        long unseenNotifications = notificationService.countUnseenNotificationsOfLoggedUser();
+
+        assertEquals(unseenNotifications, notificationService.markAllNotificationsAsSeen());
+
+        assertEquals(0, notificationService.countUnseenNotificationsOfLoggedUser());
+        assertEquals(0, notificationService.markAllNotificationsAsSeen());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test014_NotificationServiceWhenMarkingIdsAsSeenThenOnlyOwnNotificationsAreUpdated() {
+        val unseenNotification =
+                notificationService.getNotificationsOfLoggedUser().stream()
+                        .filter(notification -> !notification.isSeen())
+                        .findFirst()
+                        .get();
+        val otherUserNotification =
+                notificationRepository
+                        .findAllByUserToNotify(userRepository.findByNickname("Franz").get())
+                        .get(0);
+        long unseenNotifications = notificationService.countUnseenNotificationsOfLoggedUser();
+
+        int updatedAmount =
+                notificationService.markNotificationsAsSeen(
+                        List.of(unseenNotification.getId(), otherUserNotification.getId()));
+
+        assertEquals(1, updatedAmount);
+        assertEquals(
+                unseenNotifications - 1,
+                notificationService.countUnseenNotificationsOfLoggedUser());
+        assertEquals(
+                otherUserNotification.isSeen(),
+                notificationRepository.findById(otherUserNotification.getId()).get().isSeen());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test015_NotificationServiceWhenMarkingAsSeenUntilADateThenNewerOnesAreKept() {
+        long unseenNotifications = notificationService.countUnseenNotificationsOfLoggedUser();
+
+        assertEquals(
+                0,
+                notificationService.markNotificationsAsSeenUntil(
+                        LocalDateTime.now().minusYears(100)));
+        assertEquals(
+                unseenNotifications, notificationService.countUnseenNotificationsOfLoggedUser());
+
+        notificationService.markNotificationsAsSeenUntil(LocalDateTime.now());
+
+        assertEquals(0, notificationService.countUnseenNotificationsOfLoggedUser());
+    }
 }
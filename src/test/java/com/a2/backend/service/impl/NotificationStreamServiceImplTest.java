@@ -0,0 +1,121 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.constants.NotificationType;
+import com.a2.backend.model.NotificationDTO;
+import com.a2.backend.model.ProjectUserDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class NotificationStreamServiceImplTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private final NotificationStreamServiceImpl notificationStreamService =
+            new NotificationStreamServiceImpl(tasks::add) {
+                @Override
+                SseEmitter createEmitter() {
+                    RecordingEmitter emitter = new RecordingEmitter();
+                    emitters.add(emitter);
+                    return emitter;
+                }
+            };
+
+    private final UUID userId = UUID.randomUUID();
+
+    private NotificationDTO notificationFor(UUID userToNotifyId) {
+        return NotificationDTO.builder()
+                .id(UUID.randomUUID())
+                .type(NotificationType.COMMENT)
+                .userToNotify(ProjectUserDTO.builder().id(userToNotifyId).build())
+                .build();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    void Test001_GivenASubscribedUserWhenPublishingANotificationThenItIsStreamedToTheUser() {
+        notificationStreamService.subscribe(userId);
+
+        notificationStreamService.publish(notificationFor(userId));
+        runTasks();
+
+        List<String> events = emitters.get(0).events;
+        assertEquals(2, events.size());
+        assertTrue(events.get(1).startsWith("event:notification\n"));
+    }
+
+    @Test
+    void Test002_GivenASubscribedUserWhenPublishingToAnotherUserThenNothingIsStreamed() {
+        notificationStreamService.subscribe(userId);
+        runTasks();
+
+        notificationStreamService.publish(notificationFor(UUID.randomUUID()));
+        runTasks();
+
+        assertEquals(1, emitters.get(0).events.size());
+    }
+
+    @Test
+    void Test003_GivenAUserWithTooManyStreamsWhenSubscribingThenTheOldestOneIsClosed() {
+        for (int i = 0; i <= NotificationStreamServiceImpl.MAX_STREAMS_PER_USER; i++) {
+            notificationStreamService.subscribe(userId);
+        }
+
+        assertEquals(
+                NotificationStreamServiceImpl.MAX_STREAMS_PER_USER,
+                notificationStreamService.getStreamAmount(userId));
+        assertTrue(emitters.get(0).completed);
+        assertFalse(emitters.get(1).completed);
+    }
+
+    @Test
+    void Test004_GivenAClientThatDoesNotKeepUpWhenPublishingThenItsStreamIsClosed() {
+        notificationStreamService.subscribe(userId);
+
+        for (int i = 0; i < NotificationStreamServiceImpl.MAX_PENDING_EVENTS; i++) {
+            notificationStreamService.publish(notificationFor(userId));
+        }
+
+        assertEquals(0, notificationStreamService.getStreamAmount(userId));
+        assertTrue(emitters.get(0).completed);
+    }
+
+    @Test
+    void Test005_GivenASubscribedUserWhenSendingHeartbeatThenAnEmptyCommentIsStreamed() {
+        notificationStreamService.subscribe(userId);
+
+        notificationStreamService.sendHeartbeat();
+        runTasks();
+
+        assertEquals(":\n\n", emitters.get(0).events.get(1));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean completed = false;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(
+                    builder.build().stream()
+                            .map(data -> data.getData().toString())
+                            .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.entity.User;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.service.ProjectMembershipService;
+import java.util.UUID;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ProjectMembershipServiceActiveTest extends AbstractServiceTest {
+
+    @Autowired private ProjectRepository projectRepository;
+
+    @Autowired private ProjectMembershipService projectMembershipService;
+
+    @Test
+    void Test001_ProjectMembershipServiceWhenCheckingProjectMembersThenRolesAreDetected() {
+        val project = projectRepository.findByTitle("Django").get();
+        val ownerId = project.getOwner().getId();
+        val collaboratorId = project.getCollaborators().get(0).getId();
+
+        assertTrue(projectMembershipService.isOwner(project.getId(), ownerId));
+        assertFalse(projectMembershipService.isOwner(project.getId(), collaboratorId));
+
+        assertTrue(projectMembershipService.isCollaborator(project.getId(), collaboratorId));
+        assertFalse(projectMembershipService.isCollaborator(project.getId(), ownerId));
+
+        assertTrue(projectMembershipService.isMember(project.getId(), ownerId));
+        assertTrue(projectMembershipService.isMember(project.getId(), collaboratorId));
+
+        assertFalse(project.getApplicants().isEmpty());
+        for (User applicant : project.getApplicants()) {
+            assertTrue(projectMembershipService.isApplicant(project.getId(), applicant.getId()));
+            assertFalse(projectMembershipService.isMember(project.getId(), applicant.getId()));
+        }
+    }
+
+    @Test
+    void Test002_ProjectMembershipServiceWhenCheckingUnknownIdsThenNobodyIsAMember() {
+        val project = projectRepository.findByTitle("Django").get();
+        val ownerId = project.getOwner().getId();
+
+        assertFalse(projectMembershipService.isOwner(UUID.randomUUID(), ownerId));
+        assertFalse(projectMembershipService.isMember(project.getId(), UUID.randomUUID()));
+        assertFalse(projectMembershipService.isApplicant(project.getId(), ownerId));
+    }
+}
@@ -3,6 +3,8 @@ package com.a2.backend.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.a2.backend.constants.NotificationType;
+import com.a2.backend.entity.Language;
+import com.a2.backend.entity.Tag;
 import com.a2.backend.entity.User;
 import com.a2.backend.exception.InvalidProjectCollaborationApplicationException;
 import com.a2.backend.exception.InvalidUserException;
@@ -427,7 +429,10 @@ public class ProjectServiceActiveTest extends AbstractServiceTest {
 
         val collaborator = userRepository.findByNickname("ropa1998");
 
-        val reviews = projectService.getUserReviews(project.getId(), collaborator.get().getId());
+        val reviews =
+                projectService
+                        .getUserReviews(project.getId(), collaborator.get().getId(), 0, 20)
+                        .getReviews();
 
         assertNotNull(reviews);
         assertEquals(2, reviews.size());
@@ -443,7 +448,9 @@ public class ProjectServiceActiveTest extends AbstractServiceTest {
 
         assertThrows(
                 ProjectNotFoundException.class,
-                () -> projectService.getUserReviews(UUID.randomUUID(), collaborator.get().getId()));
+                () ->
+                        projectService.getUserReviews(
+                                UUID.randomUUID(), collaborator.get().getId(), 0, 20));
     }
 
     @Test
@@ -458,7 +465,9 @@ public class ProjectServiceActiveTest extends AbstractServiceTest {
 
         assertThrows(
                 InvalidUserException.class,
-                () -> projectService.getUserReviews(project.getId(), collaborator.get().getId()));
+                () ->
+                        projectService.getUserReviews(
+                                project.getId(), collaborator.get().getId(), 0, 20));
     }
 
     @Test
@@ -565,4 +574,84 @@ public class ProjectServiceActiveTest extends AbstractServiceTest {
         assertNull(notification.getDiscussion());
         assertFalse(notification.isSeen());
     }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test028_ProjectServiceWhenGettingSummariesThenTheyMatchTheFullProjects() {
+        val projects = projectService.getAllProjects();
+        val summaries = projectService.getAllProjectSummaries();
+
+        assertEquals(projects.size(), summaries.size());
+
+        for (ProjectSummaryDTO summary : summaries) {
+            ProjectDTO project =
+                    projects.stream()
+                            .filter(p -> p.getId().equals(summary.getId()))
+                            .findFirst()
+                            .orElseThrow();
+            assertEquals(project.getTitle(), summary.getTitle());
+            assertEquals(project.isFeatured(), summary.isFeatured());
+            assertEquals(project.getOwner().getNickname(), summary.getOwnerNickname());
+            assertEquals(project.getCollaborators().size(), summary.getCollaboratorAmount());
+            assertEquals(project.getApplicants().size(), summary.getApplicantAmount());
+            assertEquals(project.getReviews().size(), summary.getReviewAmount());
+            assertEquals(project.getDiscussions().size(), summary.getDiscussionAmount());
+            assertEquals(
+                    project.getTags().stream()
+                            .map(Tag::getName)
+                            .sorted()
+                            .collect(Collectors.toList()),
+                    summary.getTags());
+            assertEquals(
+                    project.getLanguages().stream()
+                            .map(Language::getName)
+                            .sorted()
+                            .collect(Collectors.toList()),
+                    summary.getLanguages());
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test029_ProjectServiceWhenSearchingSummariesThenPagingMatchesFullSearch() {
+        ProjectSearchDTO projectSearchDTO = ProjectSearchDTO.builder().page(1).build();
+
+        val projects = projectService.searchProjectsByFilter(projectSearchDTO);
+        val summaries = projectService.searchProjectSummariesByFilter(projectSearchDTO);
+
+        assertEquals(projects.getPageAmount(), summaries.getPageAmount());
+        assertEquals(
+                projects.getProjects().stream().map(ProjectDTO::getId).collect(Collectors.toList()),
+                summaries.getProjects().stream()
+                        .map(ProjectSummaryDTO::getId)
+                        .collect(Collectors.toList()));
+        assertEquals(
+                projectService.getMyProjects().size(),
+                projectService.getMyProjectSummaries().size());
+        assertEquals(
+                projectService.getFeaturedProject().size(),
+                projectService.getFeaturedProjectSummaries().size());
+    }
+
+    @Test
+    @WithMockUser(username = "fabrizio.disanto@ing.austral.edu.ar")
+    void Test030_ProjectServiceWhenPagingUserReviewsThenTheLatestComeFirst() {
+        ProjectSearchDTO projectSearchDTO = ProjectSearchDTO.builder().title("Node.js").build();
+        val project = projectService.searchProjectsByFilter(projectSearchDTO).getProjects().get(0);
+        val collaborator = userRepository.findByNickname("ropa1998").get();
+
+        val firstPage = projectService.getUserReviews(project.getId(), collaborator.getId(), 0, 1);
+        val secondPage = projectService.getUserReviews(project.getId(), collaborator.getId(), 1, 1);
+
+        assertEquals(1, firstPage.getReviews().size());
+        assertEquals(3, firstPage.getReviews().get(0).getScore());
+        assertEquals(1, firstPage.getPageAmount());
+        assertEquals(1, secondPage.getReviews().size());
+        assertEquals(5, secondPage.getReviews().get(0).getScore());
+        assertTrue(
+                projectService
+                        .getUserReviews(project.getId(), collaborator.getId(), 2, 1)
+                        .getReviews()
+                        .isEmpty());
+    }
 }
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.val;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -95,6 +96,16 @@ class ProjectServiceImplTest extends AbstractTest {
         forumTagsUpdate.add("forumTagUpdate2");
     }
 
+    private void awaitSize(int size, Supplier<List<?>> rows) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (rows.get().size() != size) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Released vocabulary was not deleted in time");
+            }
+            Thread.sleep(50);
+        }
+    }
+
     @Test
     @WithMockUser(username = "some@email.com")
     void Test001_ProjectServiceWhenReceivesValidCreateProjectDTOShouldCreateProject() {
@@ -307,7 +318,8 @@ class ProjectServiceImplTest extends AbstractTest {
     @Test
     @WithMockUser(username = "some@email.com")
     void
-            Test014_ProjectServiceWhenReceivesValidProjectUpdateDTOAndIdShouldUpdateProjectAndDeleteUnusedTags() {
+            Test014_ProjectServiceWhenReceivesValidProjectUpdateDTOAndIdShouldUpdateProjectAndDeleteUnusedTags()
+                    throws InterruptedException {
         userRepository.save(owner);
 
         Project createdProject = projectService.createProject(projectToCreate);
@@ -325,6 +337,8 @@ class ProjectServiceImplTest extends AbstractTest {
         assertEquals(tagService.findTagsByNames(tagsUpdate), updatedProject.getTags());
         assertEquals(projectUpdateDTO.getLinks(), updatedProject.getLinks());
 
+        // Released vocabulary is deleted by a worker once the update commits
+        awaitSize(2, () -> tagService.getAllTags());
         List<Tag> updatedTags = tagService.getAllTags();
         assertEquals(2, updatedTags.size());
         assertEquals("tag1", updatedProject.getTags().get(0).getName());
@@ -344,7 +358,8 @@ class ProjectServiceImplTest extends AbstractTest {
     @Test
     @WithMockUser(username = "some@email.com")
     void
-            Test014_ProjectServiceWhenReceivesValidProjectUpdateDTOAndIdShouldUpdateProjectAndDeleteUnusedLanguages() {
+            Test014_ProjectServiceWhenReceivesValidProjectUpdateDTOAndIdShouldUpdateProjectAndDeleteUnusedLanguages()
+                    throws InterruptedException {
         userRepository.save(owner);
 
         Project createdProject = projectService.createProject(projectToCreate);
@@ -365,6 +380,8 @@ class ProjectServiceImplTest extends AbstractTest {
                 updatedProject.getLanguages());
         assertEquals(projectUpdateDTO.getLinks(), updatedProject.getLinks());
 
+        // Released vocabulary is deleted by a worker once the update commits
+        awaitSize(2, () -> languageService.getAllLanguages());
         List<Language> updatedLanguages = languageService.getAllLanguages();
         assertEquals(2, updatedLanguages.size());
         assertEquals("Java", updatedProject.getLanguages().get(0).getName());
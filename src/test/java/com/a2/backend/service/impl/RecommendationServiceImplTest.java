@@ -0,0 +1,104 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.a2.backend.entity.Language;
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.Tag;
+import com.a2.backend.event.ProjectChangedEvent;
+import com.a2.backend.repository.ProjectRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class RecommendationServiceImplTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+    private final RecommendationServiceImpl recommendationService =
+            new RecommendationServiceImpl(projectRepository);
+
+    private UUID index(boolean featured, List<String> tags, List<String> languages) {
+        UUID id = UUID.randomUUID();
+        recommendationService.onProjectChanged(
+                ProjectChangedEvent.saved(project(id, featured, tags, languages)));
+        return id;
+    }
+
+    private Project project(UUID id, boolean featured, List<String> tags, List<String> languages) {
+        return Project.builder()
+                .id(id)
+                .featured(featured)
+                .tags(
+                        tags.stream()
+                                .map(name -> Tag.builder().name(name).build())
+                                .collect(Collectors.toList()))
+                .languages(
+                        languages.stream()
+                                .map(name -> Language.builder().name(name).build())
+                                .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Test
+    void Test001_GivenIndexedProjectsWhenRecommendingThenFeaturedAndMatchingProjectsComeFirst() {
+        UUID firstFeatured = index(true, List.of("Tool"), List.of());
+        UUID secondFeatured = index(true, List.of(), List.of("C"));
+        UUID matching = index(false, List.of("Backend"), List.of("Python"));
+        for (int i = 0; i < 10; i++) {
+            index(false, List.of("Frontend"), List.of("JavaScript"));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            List<UUID> ids =
+                    recommendationService.recommendProjectIds(List.of(), List.of("python"));
+
+            assertEquals(6, ids.size());
+            assertEquals(6, new HashSet<>(ids).size());
+            assertEquals(
+                    new HashSet<>(List.of(firstFeatured, secondFeatured)),
+                    new HashSet<>(ids.subList(0, 2)));
+            assertEquals(matching, ids.get(2));
+        }
+    }
+
+    @Test
+    void Test002_GivenAnUpdatedAndADeletedProjectWhenRecommendingThenTheIndexFollowsThem() {
+        UUID updated = index(false, List.of("Backend"), List.of());
+        UUID deleted = index(false, List.of("Backend"), List.of());
+
+        recommendationService.onProjectChanged(
+                ProjectChangedEvent.saved(project(updated, false, List.of("Frontend"), List.of())));
+        recommendationService.onProjectChanged(ProjectChangedEvent.deleted(deleted));
+
+        assertEquals(1, recommendationService.getIndexedAmount());
+        assertEquals(
+                List.of(updated),
+                recommendationService.recommendProjectIds(List.of("FRONTEND"), List.of()));
+        assertEquals(
+                List.of(updated),
+                recommendationService.recommendProjectIds(List.of("Backend"), List.of()));
+    }
+
+    @Test
+    void Test003_WhenRebuildingTheIndexThenItIsReadFromTheRepository() {
+        UUID featured = UUID.randomUUID();
+        UUID tagged = UUID.randomUUID();
+        index(false, List.of("Stale"), List.of());
+        when(projectRepository.findFeaturedFlags())
+                .thenReturn(List.of(new Object[] {featured, true}, new Object[] {tagged, false}));
+        when(projectRepository.findTagNames())
+                .thenReturn(List.<Object[]>of(new Object[] {tagged, "AI"}));
+        when(projectRepository.findLanguageNames()).thenReturn(List.of());
+
+        recommendationService.rebuildIndex();
+
+        assertEquals(2, recommendationService.getIndexedAmount());
+        assertEquals(
+                List.of(featured, tagged),
+                recommendationService.recommendProjectIds(List.of("ai"), List.of()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.constants.SearchDocumentType;
+import com.a2.backend.entity.Discussion;
+import com.a2.backend.entity.Project;
+import com.a2.backend.event.SearchDocumentChangedEvent;
+import com.a2.backend.model.SearchHitDTO;
+import com.a2.backend.model.SearchHitResultDTO;
+import com.a2.backend.repository.DiscussionRepository;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.service.SearchService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class SearchServiceActiveTest extends AbstractServiceTest {
+
+    @Autowired private SearchService searchService;
+
+    @Autowired private ProjectRepository projectRepository;
+
+    @Autowired private DiscussionRepository discussionRepository;
+
+    @Autowired private SearchServiceImpl searchServiceImpl;
+
+    @Test
+    void Test001_GivenTheDemoProjectsWhenSearchingADescriptionWordThenTheProjectIsFound() {
+        Project django = projectRepository.findByTitle("Django").get();
+
+        SearchHitDTO hit =
+                searchService.search("loveable", 0, 10).getHits().stream()
+                        .filter(h -> h.getId().equals(django.getId()))
+                        .findFirst()
+                        .orElseThrow();
+
+        assertEquals(SearchDocumentType.PROJECT, hit.getType());
+        assertEquals(django.getId(), hit.getProjectId());
+        assertEquals("Django", hit.getTitle());
+        assertTrue(hit.getHighlight().contains("<em>loveable</em>"));
+    }
+
+    @Test
+    void Test002_GivenAChangedDocumentWhenItIsPublishedThenSearchesFollowIt() {
+        UUID id = UUID.randomUUID();
+        UUID projectId = projectRepository.findByTitle("Django").get().getId();
+
+        // Listeners only run once a transaction commits, which never happens in these tests
+        searchServiceImpl.onSearchDocumentChanged(
+                SearchDocumentChangedEvent.indexed(
+                        SearchDocumentType.DISCUSSION,
+                        id,
+                        projectId,
+                        "Deployment",
+                        "How should we deploy the zanzibar service?"));
+
+        SearchHitDTO hit = searchService.search("zanzibar", 0, 10).getHits().get(0);
+        assertEquals(id, hit.getDiscussionId());
+        assertEquals(projectId, hit.getProjectId());
+
+        searchServiceImpl.onSearchDocumentChanged(
+                SearchDocumentChangedEvent.removed(SearchDocumentType.DISCUSSION, id));
+
+        assertEquals(0, searchService.search("zanzibar", 0, 10).getHitAmount());
+    }
+
+    @Test
+    void Test003_GivenAClosedDiscussionWhenSearchingItsCommentsThenTheyAreNotCounted() {
+        Discussion discussion =
+                discussionRepository.findAll().stream()
+                        .filter(d -> !d.getComments().isEmpty())
+                        .findFirst()
+                        .orElseThrow();
+        UUID commentId = discussion.getComments().get(0).getId();
+
+        try {
+            // Listeners only run once a transaction commits, which never happens in these tests
+            searchServiceImpl.onSearchDocumentChanged(
+                    SearchDocumentChangedEvent.indexed(
+                            SearchDocumentType.COMMENT,
+                            commentId,
+                            null,
+                            null,
+                            "The zanzibar build is broken again"));
+            assertEquals(1, searchService.search("zanzibar", 0, 10).getHitAmount());
+
+            searchServiceImpl.onSearchDocumentChanged(
+                    SearchDocumentChangedEvent.removed(
+                            SearchDocumentType.DISCUSSION, discussion.getId()));
+
+            SearchHitResultDTO result = searchService.search("zanzibar", 0, 10);
+            assertEquals(0, result.getHitAmount());
+            assertEquals(0, result.getPageAmount());
+        } finally {
+            searchServiceImpl.rebuildIndex();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.constants.VocabularyType;
+import com.a2.backend.entity.Discussion;
+import com.a2.backend.entity.ForumTag;
+import com.a2.backend.entity.Project;
+import com.a2.backend.event.DiscussionChangedEvent;
+import com.a2.backend.event.ProjectChangedEvent;
+import com.a2.backend.event.VocabularyChangedEvent;
+import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.service.SuggestionService;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class SuggestionServiceActiveTest extends AbstractServiceTest {
+
+    @Autowired private SuggestionService suggestionService;
+
+    @Autowired private SuggestionServiceImpl suggestionServiceImpl;
+
+    @Autowired private ProjectRepository projectRepository;
+
+    @Test
+    void Test001_GivenTheDemoDataWhenSuggestingThenNamesAreRankedByUsage() {
+        assertEquals(List.of("Java", "JavaScript"), suggestionService.suggestLanguages("ja", 2));
+        assertEquals(List.of("linux"), suggestionService.suggestTags("LIN", 10));
+        assertEquals("help", suggestionService.suggestForumTags("he", 10).get(0));
+        assertTrue(suggestionService.suggestForumTags("he", 10).contains("help please"));
+    }
+
+    @Test
+    void Test002_GivenDeletedProjectsWhenSuggestingThenTheirNamesLosePopularity() {
+        List<Project> projects =
+                List.of(
+                        projectRepository.findByTitle("Sakai").get(),
+                        projectRepository.findByTitle("ApacheCassandra").get());
+
+        // Listeners only run once a transaction commits, which never happens in these tests
+        projects.forEach(
+                project ->
+                        suggestionServiceImpl.onProjectChanged(
+                                ProjectChangedEvent.deleted(project.getId())));
+        try {
+            assertEquals(
+                    List.of("JavaScript", "Java"), suggestionService.suggestLanguages("ja", 2));
+        } finally {
+            // The application context, and so the index, is shared with the other tests
+            projects.forEach(
+                    project ->
+                            suggestionServiceImpl.onProjectChanged(
+                                    ProjectChangedEvent.saved(project)));
+        }
+    }
+
+    @Test
+    void Test003_GivenANewTagWhenItIsStoredAndThenDeletedThenSuggestionsFollowIt() {
+        suggestionServiceImpl.onVocabularyChanged(
+                VocabularyChangedEvent.added(VocabularyType.TAG, "Quantum Computing"));
+        assertEquals(List.of("Quantum Computing"), suggestionService.suggestTags("comp", 10));
+
+        suggestionServiceImpl.onVocabularyChanged(
+                VocabularyChangedEvent.removed(VocabularyType.TAG, "Quantum Computing"));
+        assertEquals(List.of(), suggestionService.suggestTags("comp", 10));
+    }
+
+    @Test
+    void Test004_GivenClosedDiscussionsWhenSuggestingThenTheirForumTagsLosePopularity() {
+        Project project = projectRepository.findByTitle("Sakai").get();
+        // More discussions than the demo data has with "help", all using "help please"
+        List<Discussion> discussions =
+                IntStream.range(0, 4)
+                        .mapToObj(
+                                i ->
+                                        Discussion.builder()
+                                                .id(UUID.randomUUID())
+                                                .project(project)
+                                                .forumTags(
+                                                        List.of(
+                                                                ForumTag.builder()
+                                                                        .name("help please")
+                                                                        .build()))
+                                                .build())
+                        .collect(Collectors.toList());
+        try {
+            discussions.forEach(
+                    discussion ->
+                            suggestionServiceImpl.onDiscussionChanged(
+                                    DiscussionChangedEvent.saved(discussion)));
+            assertEquals(List.of("help please"), suggestionService.suggestForumTags("help", 1));
+
+            discussions.forEach(
+                    discussion ->
+                            suggestionServiceImpl.onDiscussionChanged(
+                                    DiscussionChangedEvent.closed(discussion)));
+            assertEquals(List.of("help"), suggestionService.suggestForumTags("help", 1));
+        } finally {
+            // The application context, and so the index, is shared with the other tests
+            discussions.forEach(
+                    discussion ->
+                            suggestionServiceImpl.onDiscussionChanged(
+                                    DiscussionChangedEvent.closed(discussion)));
+        }
+    }
+}
@@ -83,4 +83,17 @@ class TagServiceImplTest extends AbstractTest {
         assertEquals(1, removedTags.size());
         assertEquals("tag2", removedTags.get(0).getName());
     }
+
+    @Test
+    void Test006_TagServiceGivenRepeatedNewTagNamesWhenFindingOrCreatingThenEachNameIsStoredOnce() {
+        Tag tag1 = tagRepository.save(tagService.createTag("tag1"));
+
+        List<Tag> tagList =
+                tagService.findOrCreateTag(Arrays.asList("tag2", "tag1", "tag2", "tag3"));
+
+        assertEquals(4, tagList.size());
+        assertEquals(tag1.getId(), tagList.get(1).getId());
+        assertEquals(tagList.get(0).getId(), tagList.get(2).getId());
+        assertEquals(3, tagRepository.count());
+    }
 }
@@ -2,13 +2,23 @@ package com.a2.backend.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.a2.backend.constants.DigestInterval;
+import com.a2.backend.constants.NotificationType;
 import com.a2.backend.constants.PrivacyConstant;
+import com.a2.backend.entity.OutboxMail;
+import com.a2.backend.entity.Project;
+import com.a2.backend.entity.Review;
 import com.a2.backend.entity.User;
 import com.a2.backend.exception.UserNotFoundException;
 import com.a2.backend.model.*;
+import com.a2.backend.repository.OutboxMailRepository;
 import com.a2.backend.repository.ProjectRepository;
+import com.a2.backend.repository.ReputationScoreRepository;
+import com.a2.backend.repository.UserRepository;
+import com.a2.backend.service.DiscussionService;
 import com.a2.backend.service.ProjectService;
 import com.a2.backend.service.UserService;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -19,7 +29,11 @@ public class UserServiceActiveTest extends AbstractServiceTest {
     @Autowired private UserService userService;
 
     @Autowired private ProjectService projectService;
+    @Autowired private DiscussionService discussionService;
     @Autowired private ProjectRepository projectRepository;
+    @Autowired private OutboxMailRepository outboxMailRepository;
+    @Autowired private ReputationScoreRepository reputationScoreRepository;
+    @Autowired private UserRepository userRepository;
 
     @Test
     @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
@@ -174,7 +188,7 @@ public class UserServiceActiveTest extends AbstractServiceTest {
     //    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
     //    void Test010_GivenAValidUserIdWhenGettingReviewsThenTheyAreReturnedSortedByDate() {
     //        User user = userService.getLoggedUser();
-    //        List<ReviewDTO> reviews = userService.getUserReviews(user.getId());
+    //        List<ReviewDTO> reviews = userService.getUserReviews(user.getId(), 0, 20);
     //        assertEquals(3, reviews.size());
     //
     //        assert (Objects.requireNonNull(reviews.get(2).getComment()).contains("Did a great
@@ -188,6 +202,187 @@ public class UserServiceActiveTest extends AbstractServiceTest {
     @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
     void Test011_GivenAnInvalidUserIdWhenGettingReviewsThenExceptionIsThrown() {
         assertThrows(
-                UserNotFoundException.class, () -> userService.getUserReviews(UUID.randomUUID()));
+                UserNotFoundException.class,
+                () -> userService.getUserReviews(UUID.randomUUID(), 0, 20));
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test012_GivenALoggedUserWhenGettingItTwiceThenTheSameInstanceIsReturned() {
+        User loggedUser = userService.getLoggedUser();
+
+        assertSame(loggedUser, userService.getLoggedUser());
+        assertEquals("rodrigo.pazos@ing.austral.edu.ar", loggedUser.getEmail());
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test013_GivenALoggedUserWhenUpdatingItThenTheUpdatedUserIsReturnedAfterwards() {
+        userService.getLoggedUser();
+
+        userService.updateUser(
+                UserUpdateDTO.builder().nickname("ropa2021").biography("New bio").build());
+
+        User loggedUser = userService.getLoggedUser();
+        assertEquals("ropa2021", loggedUser.getNickname());
+        assertEquals("New bio", loggedUser.getBiography());
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test014_GivenADigestIntervalWhenUpdatingNotificationPreferencesThenItIsKeptUntilChanged() {
+        assertEquals(DigestInterval.IMMEDIATE, userService.getLoggedUser().getDigestInterval());
+
+        userService.switchEmailNotificationPreferences(
+                NotificationUpdatePreferencDTO.builder()
+                        .allowsNotifications(true)
+                        .digestInterval(DigestInterval.DAILY)
+                        .build());
+        userService.switchEmailNotificationPreferences(
+                NotificationUpdatePreferencDTO.builder().allowsNotifications(true).build());
+
+        assertEquals(DigestInterval.DAILY, userService.getLoggedUser().getDigestInterval());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test015_GivenAReviewedCollaboratorWhenDeletingTheProjectThenItsScoreIsDiscarded() {
+        UUID djangoId = projectRepository.findByTitle("Django").get().getId();
+        User user =
+                userService.getUser(
+                        projectService
+                                .getProjectDetails(djangoId)
+                                .getCollaborators()
+                                .get(0)
+                                .getId());
+        assertEquals(2.5, user.getReputation());
+
+        projectService.deleteProject(djangoId);
+
+        assertEquals(3, user.getReputation());
+        assertEquals(1, user.getReputationScoreCount());
+        assertEquals(3, userService.updateReputation(user.getId()).getReputation());
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test016_GivenACachedPublicProfileWhenTheUserIsReviewedThenItIsBuiltAgain() {
+        UUID djangoId = projectRepository.findByTitle("Django").get().getId();
+        UUID userId = projectService.getProjectDetails(djangoId).getCollaborators().get(0).getId();
+
+        UserProfileDTO profile = userService.getUserProfile(userId);
+        assertSame(profile, userService.getUserProfile(userId));
+        assertEquals(2.5, profile.getReputation());
+
+        projectService.createReview(
+                djangoId, ReviewCreateDTO.builder().collaboratorID(userId).score(5).build());
+
+        UserProfileDTO updatedProfile = userService.getUserProfile(userId);
+        assertNotSame(profile, updatedProfile);
+        assertEquals(4, updatedProfile.getReputation());
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test017_GivenHeldDigestMailsWhenTurningNotificationsOffThenTheyAreDropped() {
+        String email = userService.getLoggedUser().getEmail();
+        LocalDateTime now = LocalDateTime.now();
+        outboxMailRepository.save(
+                OutboxMail.builder()
+                        .recipient(email)
+                        .type(NotificationType.COMMENT)
+                        .nextAttemptAt(now.plusDays(1))
+                        .createdAt(now)
+                        .build());
+
+        userService.switchEmailNotificationPreferences(
+                NotificationUpdatePreferencDTO.builder().allowsNotifications(false).build());
+
+        assertTrue(
+                outboxMailRepository.findAll().stream()
+                        .noneMatch(mail -> mail.getRecipient().equals(email)));
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test018_GivenAReviewCountedMeanwhileWhenRecordingAnotherThenBothAreKept() {
+        User collaborator = userService.getLoggedUser();
+        long sum = collaborator.getReputationScoreSum();
+        int count = collaborator.getReputationScoreCount();
+        Project project =
+                projectRepository.findAll().stream()
+                        .filter(
+                                p ->
+                                        reputationScoreRepository
+                                                .findByCollaboratorIdAndProjectId(
+                                                        collaborator.getId(), p.getId())
+                                                .isEmpty())
+                        .findFirst()
+                        .orElseThrow();
+        // Another review of the collaborator is counted while this one holds the old totals
+        userRepository.addReputationScore(collaborator.getId(), 5, 1);
+
+        User reviewed =
+                userService.recordReview(
+                        project,
+                        Review.builder()
+                                .collaborator(collaborator)
+                                .score(3)
+                                .date(LocalDateTime.now())
+                                .build());
+
+        assertEquals(sum + 8, reviewed.getReputationScoreSum());
+        assertEquals(count + 2, reviewed.getReputationScoreCount());
+        assertEquals((double) (sum + 8) / (count + 2), reviewed.getReputation(), 1e-9);
+    }
+
+    @Test
+    @WithMockUser(username = "agustin.ayerza@ing.austral.edu.ar")
+    void Test019_GivenACachedPublicProfileWhenAnotherUserChangesNicknameThenItIsBuiltAgain() {
+        UUID userId = userRepository.findByNickname("ropa1998").get().getId();
+        UserProfileDTO profile = userService.getUserProfile(userId);
+        assertSame(profile, userService.getUserProfile(userId));
+
+        userService.updateUser(UserUpdateDTO.builder().nickname("Peltevis2").build());
+
+        assertNotSame(profile, userService.getUserProfile(userId));
+    }
+
+    @Test
+    @WithMockUser(username = "rodrigo.pazos@ing.austral.edu.ar")
+    void Test020_GivenACachedOwnProfileWhenDiscussionsChangeThenProjectsAreBuiltAgain() {
+        UUID loggedUserId = userService.getLoggedUser().getId();
+        UUID nodeId = projectRepository.findByTitle("Node.js").get().getId();
+        List<ProjectDTO> projects =
+                userService.getUserProfile(loggedUserId).getCollaboratedProjects();
+
+        DiscussionDTO discussion =
+                discussionService.createDiscussion(
+                        nodeId,
+                        DiscussionCreateDTO.builder()
+                                .title("Cached")
+                                .body("Shows up in the profile")
+                                .forumTags(List.of("help"))
+                                .build());
+
+        List<ProjectDTO> withDiscussion =
+                userService.getUserProfile(loggedUserId).getCollaboratedProjects();
+        assertNotSame(projects, withDiscussion);
+        assertTrue(discussionIds(withDiscussion, nodeId).contains(discussion.getId()));
+
+        discussionService.deleteDiscussion(discussion.getId());
+
+        List<ProjectDTO> withoutDiscussion =
+                userService.getUserProfile(loggedUserId).getCollaboratedProjects();
+        assertNotSame(withDiscussion, withoutDiscussion);
+        assertFalse(discussionIds(withoutDiscussion, nodeId).contains(discussion.getId()));
+    }
+
+    private static List<UUID> discussionIds(List<ProjectDTO> projects, UUID projectId) {
+        return projects.stream()
+                .filter(project -> project.getId().equals(projectId))
+                .flatMap(project -> project.getDiscussions().stream())
+                .map(DiscussionDTO::getId)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,138 @@
+package com.a2.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.a2.backend.AbstractTest;
+import com.a2.backend.constants.VocabularyType;
+import com.a2.backend.entity.ForumTag;
+import com.a2.backend.entity.Language;
+import com.a2.backend.entity.Tag;
+import com.a2.backend.entity.User;
+import com.a2.backend.event.VocabularyReleasedEvent;
+import com.a2.backend.model.ProjectCreateDTO;
+import com.a2.backend.repository.ForumTagRepository;
+import com.a2.backend.repository.LanguageRepository;
+import com.a2.backend.repository.TagRepository;
+import com.a2.backend.repository.UserRepository;
+import com.a2.backend.service.ProjectService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(
+        properties = {"vocabulary.cleanup.batch-size=2", "vocabulary.cleanup.grace-period=60000"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class VocabularyCleanupServiceImplTest extends AbstractTest {
+
+    @Autowired private VocabularyCleanupServiceImpl vocabularyCleanupService;
+
+    @Autowired private ProjectService projectService;
+
+    @Autowired private TagRepository tagRepository;
+
+    @Autowired private LanguageRepository languageRepository;
+
+    @Autowired private ForumTagRepository forumTagRepository;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private void createProject() {
+        userRepository.save(User.builder().nickname("nickname").email("some@email.com").build());
+        projectService.createProject(
+                ProjectCreateDTO.builder()
+                        .title("Project title")
+                        .description("description")
+                        .links(List.of("link1"))
+                        .tags(List.of("tag1", "tag2"))
+                        .forumTags(List.of("help", "actual"))
+                        .languages(List.of("Java", "C"))
+                        .build());
+    }
+
+    /** Makes every stored row older than the grace period. */
+    private void backdateVocabulary() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(1);
+        for (String table : List.of("tag", "language", "forum_tag")) {
+            jdbcTemplate.update("UPDATE " + table + " SET created_at = ?", longAgo);
+        }
+    }
+
+    private void awaitTagNames(Set<String> names) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!names.equals(Set.copyOf(tagRepository.findAllNames()))) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Released tags were not deleted in time");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "some@email.com")
+    void Test001_VocabularyCleanupServiceWhenSweepingThenOnlyUnusedVocabularyIsDeleted() {
+        createProject();
+        tagRepository.saveAll(
+                List.of(
+                        Tag.builder().name("tag3").build(),
+                        Tag.builder().name("tag4").build(),
+                        Tag.builder().name("tag5").build()));
+        languageRepository.saveAll(
+                List.of(
+                        Language.builder().name("Python").build(),
+                        Language.builder().name("Ruby").build()));
+        forumTagRepository.saveAll(
+                List.of(
+                        ForumTag.builder().name("old1").build(),
+                        ForumTag.builder().name("old2").build(),
+                        ForumTag.builder().name("old3").build()));
+        backdateVocabulary();
+
+        vocabularyCleanupService.sweepUnused();
+
+        assertEquals(Set.of("tag1", "tag2"), Set.copyOf(tagRepository.findAllNames()));
+        assertEquals(Set.of("Java", "C"), Set.copyOf(languageRepository.findAllNames()));
+        assertEquals(Set.of("help", "actual"), Set.copyOf(forumTagRepository.findAllNames()));
+    }
+
+    @Test
+    @WithMockUser(username = "some@email.com")
+    void Test002_VocabularyCleanupServiceWhenTagsAreReleasedThenOnlyTheUnusedOnesAreDeleted()
+            throws InterruptedException {
+        createProject();
+        val usedTag = tagRepository.findByName("tag1").get();
+        val releasedTag = tagRepository.save(Tag.builder().name("tag3").build());
+        tagRepository.save(Tag.builder().name("tag4").build());
+        backdateVocabulary();
+
+        vocabularyCleanupService.onVocabularyReleased(
+                new VocabularyReleasedEvent(
+                        VocabularyType.TAG, List.of(usedTag.getId(), releasedTag.getId())));
+
+        awaitTagNames(Set.of("tag1", "tag2", "tag4"));
+    }
+
+    @Test
+    @WithMockUser(username = "some@email.com")
+    void Test003_VocabularyCleanupServiceGivenTagsNotLinkedYetWhenSweepingThenTheyAreKept() {
+        createProject();
+        tagRepository.save(Tag.builder().name("old").build());
+        backdateVocabulary();
+        // Inserted by a request that has not linked it to its project yet
+        tagRepository.save(Tag.builder().name("new").build());
+
+        vocabularyCleanupService.sweepUnused();
+
+        assertEquals(Set.of("tag1", "tag2", "new"), Set.copyOf(tagRepository.findAllNames()));
+    }
+}
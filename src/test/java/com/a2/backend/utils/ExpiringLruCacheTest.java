@@ -0,0 +1,79 @@
+package com.a2.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final ExpiringLruCache<String, Integer> cache =
+            new ExpiringLruCache<>(2, Duration.ofMinutes(1), clock);
+
+    @Test
+    void Test001_GivenAFullCacheWhenAddingAnEntryThenTheLeastRecentlyUsedOneIsEvicted() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a").get());
+
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("b").isEmpty());
+        assertTrue(cache.get("c").isPresent());
+    }
+
+    @Test
+    void Test002_GivenAnExpiredEntryWhenGettingItThenItIsMissing() {
+        cache.put("a", 1);
+        clock.advance(Duration.ofSeconds(59));
+        assertTrue(cache.get("a").isPresent());
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertTrue(cache.get("a").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void Test003_GivenCachedEntriesWhenInvalidatingThenTheyAreMissing() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.invalidate("a");
+        assertTrue(cache.get("a").isEmpty());
+        assertTrue(cache.get("b").isPresent());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2021-10-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.a2.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class FullTextIndexTest {
+
+    private final FullTextIndex<String> index = new FullTextIndex<>();
+
+    private List<String> keys(FullTextIndex.Result<String> result) {
+        return result.getHits().stream()
+                .map(FullTextIndex.Hit::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void Test001_GivenIndexedDocumentsWhenSearchingThenTitleMatchesRankFirst() {
+        index.put("body", "Django", "A Python web framework for perfectionists");
+        index.put("title", "Framework", "Tools to build things");
+        index.put("other", "Flask", "A micro web toolkit");
+
+        FullTextIndex.Result<String> result = index.search("framework", 0, 10);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of("title", "body"), keys(result));
+    }
+
+    @Test
+    void Test002_GivenAccentsAndCapitalsWhenSearchingThenTheyAreIgnored() {
+        index.put("spanish", "Programación", "Código abierto");
+
+        assertEquals(List.of("spanish"), keys(index.search("CODIGO programacion", 0, 10)));
+    }
+
+    @Test
+    void Test003_GivenAMatchWhenSearchingThenTheSnippetIsHighlightedAndEscaped() {
+        index.put("html", "Title", "Use <b>bold</b> & keep it bold");
+
+        FullTextIndex.Hit<String> hit = index.search("bold", 0, 10).getHits().get(0);
+
+        assertEquals(
+                "Use &lt;b&gt;<em>bold</em>&lt;/b&gt; &amp; keep it <em>bold</em>",
+                hit.getHighlight());
+        assertEquals("Title", hit.getTitle());
+    }
+
+    @Test
+    void Test004_GivenALongBodyWhenHighlightingThenOnlyAWindowAroundTheMatchIsKept() {
+        String filler = "lorem ipsum dolor sit amet ".repeat(20);
+        index.put("long", "Title", filler + "needle " + filler);
+
+        String highlight = index.search("needle", 0, 10).getHits().get(0).getHighlight();
+
+        assertTrue(highlight.startsWith("…"));
+        assertTrue(highlight.endsWith("…"));
+        assertTrue(highlight.contains("<em>needle</em>"));
+        assertTrue(highlight.length() < 200);
+    }
+
+    @Test
+    void Test005_GivenManyHitsWhenPagingThenEveryHitIsReturnedOnce() {
+        for (int i = 0; i < 25; i++) {
+            index.put("document" + i, "Search", "word ".repeat(i + 1));
+        }
+
+        List<String> first = keys(index.search("word", 0, 10));
+        List<String> second = keys(index.search("word", 10, 10));
+        List<String> third = keys(index.search("word", 20, 10));
+
+        assertEquals(10, first.size());
+        assertEquals(10, second.size());
+        assertEquals(5, third.size());
+        assertEquals(25, first.stream().distinct().count() + second.size() + third.size());
+        assertTrue(index.search("word", 30, 10).getHits().isEmpty());
+    }
+
+    @Test
+    void Test006_GivenAReplacedAndARemovedDocumentWhenSearchingThenOnlyTheNewTextMatches() {
+        index.put("replaced", "Old", "old text");
+        index.put("removed", "Old", "old text");
+
+        index.put("replaced", "New", "new text");
+        index.remove("removed");
+
+        assertTrue(index.search("old", 0, 10).getHits().isEmpty());
+        assertEquals(List.of("replaced"), keys(index.search("new", 0, 10)));
+        assertEquals(1, index.size());
+    }
+}
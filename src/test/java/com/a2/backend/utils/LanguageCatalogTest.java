@@ -0,0 +1,37 @@
+package com.a2.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class LanguageCatalogTest {
+
+    @Test
+    void Test001_GivenTheBundledCatalogWhenLookingUpNamesThenCaseIsIgnored() {
+        LanguageCatalog catalog = new LanguageCatalog();
+
+        assertEquals("Java", catalog.getNames().get(0));
+        assertEquals(Optional.of("Python"), catalog.canonicalName("PYTHON"));
+        assertEquals(Optional.of("Visual Basic .NET"), catalog.canonicalName("visual basic .net"));
+        assertTrue(catalog.isValid("c++"));
+        assertFalse(catalog.isValid("Not Valid Language"));
+        assertFalse(catalog.isValid(null));
+    }
+
+    @Test
+    void Test002_GivenTheSameNameTwiceWhenBuildingTheCatalogThenItIsRejected() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new LanguageCatalog(List.of("Go", "GO")));
+    }
+
+    @Test
+    void Test003_GivenTwoCatalogsWhenComparingTheirETagsThenOnlyTheContentMatters() {
+        LanguageCatalog catalog = new LanguageCatalog(List.of("Java", "C"));
+
+        assertEquals("[\"Java\",\"C\"]", new String(catalog.getJsonBody()));
+        assertEquals(catalog.getETag(), new LanguageCatalog(List.of("Java", "C")).getETag());
+        assertNotEquals(catalog.getETag(), new LanguageCatalog(List.of("C", "Java")).getETag());
+    }
+}
@@ -0,0 +1,28 @@
+package com.a2.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class MailTemplateTest {
+
+    @Test
+    void Test001_GivenATemplateWhenRenderingThenPlaceholdersAreFilledInOrder() {
+        MailTemplate template = MailTemplate.of("Subject", "Go to /verify/{}/{}<br>");
+
+        String html = template.render("id", "token");
+
+        assertEquals("Subject", template.getSubject());
+        assertEquals(
+                "<img src= 'cid:id1' height= 50 width= auto> <br> <h2>Subject</h2>"
+                        + "<p>Go to /verify/id/token<br>Best regards,<br>A2</p>",
+                html);
+    }
+
+    @Test
+    void Test002_GivenATemplateWhenRenderingWithWrongAmountOfValuesThenExceptionIsThrown() {
+        MailTemplate template = MailTemplate.of("Subject", "{} and {}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render("only one"));
+    }
+}
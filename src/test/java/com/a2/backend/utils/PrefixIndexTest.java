@@ -0,0 +1,68 @@
+package com.a2.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+    @Test
+    void Test001_GivenWeightedNamesWhenSuggestingThenTheMostPopularMatchesComeFirst() {
+        PrefixIndex index = new PrefixIndex();
+        index.replaceAll(Map.of("Java", 3L, "JavaScript", 5L, "Julia", 1L, "Python", 9L));
+
+        assertEquals(List.of("JavaScript", "Java", "Julia"), index.suggest("j", 10));
+        assertEquals(List.of("JavaScript", "Java"), index.suggest("JAVA", 10));
+        assertEquals(List.of("JavaScript"), index.suggest("ja", 1));
+        assertEquals(List.of(), index.suggest("rust", 10));
+    }
+
+    @Test
+    void Test002_GivenANameWithManyWordsWhenSuggestingAnyWordThenTheNameIsFoundOnce() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Machine Learning");
+        index.add("Cross-Platform");
+        index.add("help help");
+
+        assertEquals(List.of("Machine Learning"), index.suggest("lea", 10));
+        assertEquals(List.of("Cross-Platform"), index.suggest("plat", 10));
+        assertEquals(List.of("help help"), index.suggest("help", 10));
+    }
+
+    @Test
+    void Test003_GivenEqualWeightsWhenSuggestingThenNamesAreSortedAlphabetically() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Tool");
+        index.add("Tensor");
+        index.add("Test");
+
+        assertEquals(List.of("Tensor", "Test", "Tool"), index.suggest("", 10));
+    }
+
+    @Test
+    void Test004_GivenWeightChangesWhenSuggestingThenTheOrderFollowsThem() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Go");
+        index.adjustWeight("Groovy", 2);
+        index.adjustWeight("Go", 1);
+        assertEquals(List.of("Groovy", "Go"), index.suggest("g", 10));
+
+        index.adjustWeight("Go", 2);
+        assertEquals(List.of("Go", "Groovy"), index.suggest("g", 10));
+        assertEquals(3, index.getWeight("Go"));
+    }
+
+    @Test
+    void Test005_GivenARemovedNameWhenItsWeightDropsThenItIsNotSuggestedAgain() {
+        PrefixIndex index = new PrefixIndex();
+        index.adjustWeight("linux", 1);
+
+        index.remove("linux");
+        index.adjustWeight("linux", -1);
+
+        assertEquals(List.of(), index.suggest("lin", 10));
+        assertEquals(0, index.size());
+    }
+}